@@ -2,8 +2,12 @@ import autocomplete.Autocomplete;
 import autocomplete.TreeSetAutocomplete;
 import graphs.AStarGraph;
 import graphs.Edge;
+import graphs.IndexedGraph;
 import graphs.shortestpaths.AStarSolver;
-import minpq.DoubleMapMinPQ;
+import graphs.shortestpaths.DijkstraDistanceMatrix;
+import graphs.shortestpaths.DistanceMatrix;
+import minpq.MinPQ;
+import minpq.OptimizedHeapMinPQ;
 import org.locationtech.spatial4j.context.SpatialContext;
 import org.locationtech.spatial4j.shape.Point;
 import org.xml.sax.Attributes;
@@ -32,6 +36,11 @@ public class MapGraph implements AStarGraph<Point> {
     private final Map<String, List<Point>> locations;
     private final Autocomplete autocomplete;
     private final Map<CharSequence, Integer> importance;
+    private final MinPQ.Constructor<Point> pq;
+    /**
+     * Snapshot of this graph for distance matrices, or null if it has not been computed yet.
+     */
+    private IndexedGraph<Point> indexed;
 
     /**
      * Constructs a new map graph from the path to an OSM GZ file and a places TSV.
@@ -44,9 +53,26 @@ public class MapGraph implements AStarGraph<Point> {
      */
     public MapGraph(String osmPath, String placesPath, SpatialContext context)
             throws ParserConfigurationException, SAXException, IOException {
+        this(osmPath, placesPath, context, OptimizedHeapMinPQ::new);
+    }
+
+    /**
+     * Constructs a new map graph from the path to an OSM GZ file and a places TSV, finding shortest paths with the
+     * given {@link MinPQ} implementation.
+     *
+     * @param osmPath    The path to a gzipped OSM (XML) file.
+     * @param placesPath The path to a TSV file representing places and importance.
+     * @param pq         The constructor for the {@link MinPQ} used by {@link #shortestPath(Point, Point)}.
+     * @throws ParserConfigurationException if a parser cannot be created.
+     * @throws SAXException                 for SAX errors.
+     * @throws IOException                  if a file is not found or if the file is not gzipped.
+     */
+    public MapGraph(String osmPath, String placesPath, SpatialContext context, MinPQ.Constructor<Point> pq)
+            throws ParserConfigurationException, SAXException, IOException {
         this.osmPath = osmPath;
         this.placesPath = placesPath;
         this.context = context;
+        this.pq = pq;
 
         // Parse the OpenStreetMap (OSM) data using the SAXParser XML tree walker.
         neighbors = new HashMap<>();
@@ -119,7 +145,8 @@ public class MapGraph implements AStarGraph<Point> {
         for (CharSequence match : matches) {
             elementsAndPriorities.put(match, (double) importance.get(match));
         }
-        return new DoubleMapMinPQ<>(elementsAndPriorities).removeMin(maxMatches);
+        // Heapify all matches in linear time, then only pay logarithmic time for the few that are returned
+        return new OptimizedHeapMinPQ<>(elementsAndPriorities).removeMin(maxMatches);
     }
 
     /**
@@ -140,12 +167,36 @@ public class MapGraph implements AStarGraph<Point> {
      * @return a list of points representing the shortest path from the points closest to the start and goal.
      */
     public List<Point> shortestPath(Point start, Point goal) {
-        return new AStarSolver<>(this, closest(start), closest(goal)).solution();
+        return new AStarSolver<>(this, closest(start), closest(goal), pq).solution();
+    }
+
+    /**
+     * Returns the shortest path distances from each of the sources to each of the targets. The sources and targets
+     * should be locations in this graph, such as those returned by {@link #closest(Point)}.
+     *
+     * @param sources the {@link Point} locations to start each shortest path.
+     * @param targets the {@link Point} locations to end each shortest path.
+     * @return the shortest path distances from each of the sources to each of the targets.
+     */
+    public DistanceMatrix<Point> distanceMatrix(List<Point> sources, List<Point> targets) {
+        return new DijkstraDistanceMatrix<>(indexed(), sources, targets);
+    }
+
+    /**
+     * Returns a snapshot of this graph that is computed once and shared by all distance matrices.
+     *
+     * @return a snapshot of this graph.
+     */
+    private synchronized IndexedGraph<Point> indexed() {
+        if (indexed == null) {
+            indexed = new IndexedGraph<>(this, neighbors.keySet());
+        }
+        return indexed;
     }
 
     @Override
     public List<Edge<Point>> neighbors(Point point) {
-        return neighbors.computeIfAbsent(point, (p) -> List.of());
+        return neighbors.getOrDefault(point, List.of());
     }
 
     @Override
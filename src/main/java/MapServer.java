@@ -1,13 +1,25 @@
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import graphs.shortestpaths.DistanceMatrix;
 import io.javalin.Javalin;
+import io.javalin.http.BadRequestResponse;
+import io.javalin.http.Context;
+import io.javalin.http.HttpStatus;
 import io.javalin.validation.ValidationException;
-import org.apache.commons.codec.binary.Base64InputStream;
+import org.apache.commons.codec.binary.Base64;
 import org.locationtech.spatial4j.context.SpatialContext;
+import org.locationtech.spatial4j.distance.DistanceUtils;
 import org.locationtech.spatial4j.shape.Point;
 import org.locationtech.spatial4j.shape.ShapeFactory;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.net.*;
-import java.nio.charset.StandardCharsets;
-import java.util.List;
+import java.time.Duration;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Run the Husky Maps server.
@@ -33,13 +45,53 @@ public class MapServer {
      * Maximum number of autocomplete search results.
      */
     private static final int MAX_MATCHES = 10;
+    /**
+     * Maximum number of points in a distance matrix request.
+     */
+    static final int MAX_MATRIX_POINTS = 100;
+    /**
+     * Maximum number of terms in a batch search or locations request.
+     */
+    static final int MAX_BATCH_TERMS = 1000;
+    /**
+     * Maximum number of routes shared between the map and route endpoints.
+     */
+    private static final int ROUTE_CACHE_SIZE = 1024;
+    /**
+     * Number of route points in each line of a streamed route.
+     */
+    private static final int ROUTE_CHUNK_SIZE = 1000;
+    /**
+     * Default maximum time in milliseconds to connect to the static image API.
+     */
+    private static final long CONNECT_TIMEOUT_MILLIS = 2000;
+    /**
+     * Default maximum time in milliseconds to wait for the static image API to respond.
+     */
+    private static final long REQUEST_TIMEOUT_MILLIS = 5000;
+    /**
+     * Default base URL of the static image API.
+     */
+    private static final String STATIC_IMAGE_URL = "https://api.mapbox.com/";
+    /**
+     * JSON mapper for reading request bodies and writing streamed responses.
+     */
+    private static final ObjectMapper JSON = new ObjectMapper();
 
     public static void main(String[] args) throws Exception {
         SpatialContext context = SpatialContext.GEO;
         ShapeFactory factory = context.getShapeFactory();
         MapGraph map = new MapGraph(OSM_DB_PATH, PLACES_PATH, context);
+        RouteCache routes = new RouteCache(map::shortestPath, ROUTE_CACHE_SIZE);
+        StaticImageClient images = new StaticImageClient(
+                Duration.ofMillis(millis("CONNECT_TIMEOUT", CONNECT_TIMEOUT_MILLIS)),
+                Duration.ofMillis(millis("REQUEST_TIMEOUT", REQUEST_TIMEOUT_MILLIS))
+        );
+        SingleFlight<URI, byte[]> renders = new SingleFlight<>();
         Javalin app = Javalin.create(config -> {
             config.spaRoot.addFile("/", "index.html");
+            // Handlers block while computing routes, so use virtual threads where the runtime supports them
+            config.useVirtualThreads = true;
         }).start(port());
         app.get("/map/{lon},{lat},{zoom}/{width}x{height}", ctx -> {
             double lon = ctx.pathParamAsClass("lon", Double.class).get();
@@ -52,23 +104,84 @@ public class MapServer {
             Point center = factory.pointLatLon(lat, lon);
             List<Point> route;
             try {
-                double startLon = ctx.queryParamAsClass("startLon", Double.class).get();
-                double startLat = ctx.queryParamAsClass("startLat", Double.class).get();
-                double goalLon = ctx.queryParamAsClass("goalLon", Double.class).get();
-                double goalLat = ctx.queryParamAsClass("goalLat", Double.class).get();
-                Point start = factory.pointLatLon(startLat, startLon);
-                Point goal = factory.pointLatLon(goalLat, goalLon);
-                route = map.shortestPath(start, goal);
+                route = route(ctx, factory, routes);
             } catch (ValidationException e) {
                 route = List.of();
             }
             List<Point> locations = map.getLocations(term);
-            URL staticImageURL = url(center, zoom, width, height, route, locations);
-            ctx.result(new Base64InputStream(staticImageURL.openStream(), true));
+            URI staticImageURI = uri(center, zoom, width, height, route, locations);
+            // Release the request thread while waiting for the image, sharing it with identical concurrent renders
+            ctx.future(() -> renders.run(staticImageURI, () -> images.fetch(staticImageURI)
+                            .thenApply(Base64::encodeBase64Chunked))
+                    .thenAccept(ctx::result)
+                    .exceptionally(e -> {
+                        ctx.status(HttpStatus.BAD_GATEWAY);
+                        return null;
+                    }));
         });
         app.get("/search", ctx -> {
             ctx.json(map.getLocationsByPrefix(ctx.queryParam("term"), MAX_MATCHES));
         });
+        app.post("/search/batch", ctx -> {
+            ctx.json(batch(ctx.body(), term -> map.getLocationsByPrefix(term, MAX_MATCHES), true));
+        });
+        app.post("/locations/batch", ctx -> {
+            ctx.json(batch(ctx.body(), term -> {
+                List<double[]> lonLats = new ArrayList<>();
+                for (Point location : map.getLocations(term)) {
+                    lonLats.add(new double[]{location.getLon(), location.getLat()});
+                }
+                return lonLats;
+            }, false));
+        });
+        app.get("/route", ctx -> {
+            List<Point> route = route(ctx, factory, routes);
+            double distance = 0.0;
+            for (int i = 1; i < route.size(); i += 1) {
+                distance += map.estimatedDistance(route.get(i - 1), route.get(i));
+            }
+            double meters = distance * DistanceUtils.DEG_TO_KM * 1000;
+            if ("true".equals(ctx.queryParam("stream"))) {
+                streamRoute(ctx, route, meters);
+            } else {
+                ctx.json(Map.of("polyline", Polyline.encode(route), "distance", meters, "nodes", route.size()));
+            }
+        });
+        app.get("/matrix", ctx -> {
+            List<Point> points = points(ctx.queryParam("points"), factory);
+            long start = System.nanoTime();
+            List<Point> vertices = new ArrayList<>(points.size());
+            for (Point point : points) {
+                vertices.add(map.closest(point));
+            }
+            long snapped = System.nanoTime();
+            DistanceMatrix<Point> matrix = map.distanceMatrix(vertices, vertices);
+            long solved = System.nanoTime();
+
+            // Convert degrees to meters, representing unreachable pairs as null since JSON has no infinity
+            Double[][] distances = new Double[vertices.size()][vertices.size()];
+            for (int i = 0; i < distances.length; i += 1) {
+                for (int j = 0; j < distances[i].length; j += 1) {
+                    double distance = matrix.distance(i, j);
+                    if (distance < Double.POSITIVE_INFINITY) {
+                        distances[i][j] = distance * DistanceUtils.DEG_TO_KM * 1000;
+                    }
+                }
+            }
+            List<double[]> snappedPoints = new ArrayList<>(vertices.size());
+            for (Point vertex : vertices) {
+                snappedPoints.add(new double[]{vertex.getLon(), vertex.getLat()});
+            }
+            double snapMillis = (snapped - start) / 1e6;
+            double matrixMillis = (solved - snapped) / 1e6;
+            ctx.header("Server-Timing",
+                    String.format(Locale.ROOT, "snap;dur=%.1f, matrix;dur=%.1f", snapMillis, matrixMillis));
+            ctx.json(Map.of(
+                    "points", snappedPoints,
+                    "distances", distances,
+                    "timing", Map.of("snapMillis", snapMillis, "matrixMillis", matrixMillis)
+            ));
+        });
     }
 
     /**
@@ -85,22 +198,164 @@ public class MapServer {
     }
 
     /**
-     * Return the API URL for retrieving the map image.
+     * Returns the result of the lookup for each distinct term in a JSON array of strings.
+     *
+     * @param body     the JSON array of terms.
+     * @param lookup   the function to apply to each term, which must be safe to call from multiple threads if parallel.
+     * @param parallel whether to run lookups in parallel, which only pays off for lookups more expensive than the
+     *                 overhead of splitting the terms across threads.
+     * @param <T>      the type of lookup results.
+     * @return a map of each distinct term to its lookup result in the order the terms were given.
+     * @throws BadRequestResponse if the body is not a JSON array of strings or has too many terms.
+     */
+    static <T> Map<String, T> batch(String body, Function<String, T> lookup, boolean parallel) {
+        String[] terms;
+        try {
+            terms = JSON.readValue(body, String[].class);
+        } catch (JsonProcessingException e) {
+            throw new BadRequestResponse("Request body must be a JSON array of strings");
+        }
+        if (terms == null || Arrays.asList(terms).contains(null)) {
+            throw new BadRequestResponse("Request body must be a JSON array of strings");
+        } else if (terms.length > MAX_BATCH_TERMS) {
+            throw new BadRequestResponse("At most " + MAX_BATCH_TERMS + " terms are allowed");
+        }
+        Stream<String> stream = Arrays.stream(terms);
+        if (parallel) {
+            stream = stream.parallel();
+        }
+        return stream.distinct().collect(Collectors.toMap(term -> term, lookup, (a, b) -> a, LinkedHashMap::new));
+    }
+
+    /**
+     * Returns the shortest path between the start and goal points given in the query parameters.
+     *
+     * @param ctx     the request context with {@code startLon}, {@code startLat}, {@code goalLon}, and {@code goalLat}.
+     * @param factory the {@link ShapeFactory} for creating points.
+     * @param routes  the {@link RouteCache} for computing shortest paths.
+     * @return the shortest path between the start and goal points.
+     * @throws ValidationException if any of the query parameters are missing or invalid.
+     */
+    private static List<Point> route(Context ctx, ShapeFactory factory, RouteCache routes) {
+        double startLon = ctx.queryParamAsClass("startLon", Double.class).get();
+        double startLat = ctx.queryParamAsClass("startLat", Double.class).get();
+        double goalLon = ctx.queryParamAsClass("goalLon", Double.class).get();
+        double goalLat = ctx.queryParamAsClass("goalLat", Double.class).get();
+        Point start = factory.pointLatLon(startLat, startLon);
+        Point goal = factory.pointLatLon(goalLat, goalLon);
+        return routes.shortestPath(start, goal);
+    }
+
+    /**
+     * Writes the route as newline-delimited JSON so that clients can start drawing long routes before they are fully
+     * received.
+     *
+     * @param ctx    the request context.
+     * @param route  the list of route points.
+     * @param meters the total distance of the route in meters.
+     * @throws IOException if the response cannot be written.
+     * @see #writeRoute(OutputStream, List, double, int)
+     */
+    private static void streamRoute(Context ctx, List<Point> route, double meters) throws IOException {
+        ctx.contentType("application/x-ndjson");
+        writeRoute(ctx.outputStream(), route, meters, ROUTE_CHUNK_SIZE);
+    }
+
+    /**
+     * Writes the route as newline-delimited JSON, flushing after each line. The first line holds the total distance
+     * and number of nodes. Each following line holds an encoded polyline for the next chunk of the route, starting
+     * from the last point of the previous chunk. An empty route has a single empty polyline.
+     *
+     * @param out       the output stream.
+     * @param route     the list of route points.
+     * @param meters    the total distance of the route in meters.
+     * @param chunkSize the number of route segments in each line.
+     * @throws IOException if the output cannot be written.
+     */
+    static void writeRoute(OutputStream out, List<Point> route, double meters, int chunkSize) throws IOException {
+        out.write(JSON.writeValueAsBytes(Map.of("distance", meters, "nodes", route.size())));
+        out.write('\n');
+        for (int from = 0; from == 0 || from + 1 < route.size(); from += chunkSize) {
+            List<Point> chunk = route.subList(from, Math.min(from + chunkSize + 1, route.size()));
+            out.write(JSON.writeValueAsBytes(Map.of("polyline", Polyline.encode(chunk))));
+            out.write('\n');
+            out.flush();
+        }
+    }
+
+    /**
+     * Returns the points in a string of semicolon-separated longitude-latitude pairs such as {@code lon,lat;lon,lat}.
+     *
+     * @param points  the string of semicolon-separated longitude-latitude pairs.
+     * @param factory the {@link ShapeFactory} for creating points.
+     * @return the list of points.
+     * @throws BadRequestResponse if the string is missing, malformed, has too many points, or has a point outside of
+     *                             the valid longitude and latitude ranges.
+     */
+    static List<Point> points(String points, ShapeFactory factory) {
+        if (points == null || points.isEmpty()) {
+            throw new BadRequestResponse("Query parameter 'points' is required");
+        }
+        String[] pairs = points.split(";");
+        if (pairs.length > MAX_MATRIX_POINTS) {
+            throw new BadRequestResponse("At most " + MAX_MATRIX_POINTS + " points are allowed");
+        }
+        List<Point> result = new ArrayList<>(pairs.length);
+        for (String pair : pairs) {
+            String message = "Invalid point '" + pair + "', expected lon,lat";
+            String[] lonLat = pair.split(",");
+            if (lonLat.length != 2) {
+                throw new BadRequestResponse(message);
+            }
+            double lon;
+            double lat;
+            try {
+                lon = Double.parseDouble(lonLat[0]);
+                lat = Double.parseDouble(lonLat[1]);
+            } catch (NumberFormatException e) {
+                throw new BadRequestResponse(message);
+            }
+            // Negated comparisons are also true for NaN
+            if (!(Math.abs(lon) <= 180) || !(Math.abs(lat) <= 90)) {
+                throw new BadRequestResponse(message);
+            }
+            result.add(factory.pointLatLon(lat, lon));
+        }
+        return result;
+    }
+
+    /**
+     * Returns the value of the environment variable as a number of milliseconds, or the default if it is not set.
+     *
+     * @param name          the name of the environment variable.
+     * @param defaultMillis the default number of milliseconds.
+     * @return the value of the environment variable as a number of milliseconds.
+     */
+    private static long millis(String name, long defaultMillis) {
+        String millis = System.getenv(name);
+        if (millis != null) {
+            return Long.parseLong(millis);
+        }
+        return defaultMillis;
+    }
+
+    /**
+     * Return the API URI for retrieving the map image.
      *
      * @param center    the center of the map image.
      * @param width     the width of the window.
      * @param height    the height of the window.
      * @param route     the list of route points (or null).
      * @param locations the list of locations (or null).
-     * @return the URL for retrieving the map image.
-     * @throws MalformedURLException if the URL is invalid.
+     * @return the URI for retrieving the map image.
+     * @throws URISyntaxException if the URI is invalid.
      */
-    private static URL url(Point center, int zoom, int width, int height, List<Point> route, List<Point> locations)
-            throws MalformedURLException, URISyntaxException {
+    private static URI uri(Point center, int zoom, int width, int height, List<Point> route, List<Point> locations)
+            throws URISyntaxException {
         StringBuilder overlay = new StringBuilder();
         if (route != null && !route.isEmpty()) {
             overlay.append("path-4+6cb5e6-1(");
-            overlay.append(URLEncoder.encode(encode(route), StandardCharsets.UTF_8));
+            Polyline.encode(route, Polyline.DEFAULT_PRECISION, true, overlay);
             overlay.append("),");
         }
         if (locations != null && !locations.isEmpty()) {
@@ -116,55 +371,22 @@ public class MapServer {
             // Replace the trailing comma with a forward slash
             overlay.setCharAt(overlay.length() - 1, '/');
         }
+        String baseURL = System.getenv("STATIC_IMAGE_URL");
         return new URI(String.format(
-                "https://api.mapbox.com/"
+                "%s"
                         // {username}/{style_id} and {overlay} (must include trailing slash)
                         + "styles/v1/%s/%s/static/%s"
                         // {lon},{lat},{zoom}/{width}x{height}{@2x}
                         + "%f,%f,%d/%dx%d%s"
                         // Access token and optional parameters
                         + "?access_token=%s&logo=false&attribution=false",
+                baseURL != null ? baseURL : STATIC_IMAGE_URL,
                 "mapbox",
                 "cj7t3i5yj0unt2rmt3y4b5e32",
                 overlay,
                 center.getLon(), center.getLat(), zoom,
                 (int) Math.ceil(width / 2.), (int) Math.ceil(height / 2.), "@2x",
                 System.getenv("TOKEN")
-        )).toURL();
-    }
-
-    /**
-     * Returns an encoded route string.
-     *
-     * @param route list of points representing the route to encode.
-     * @return an encoded route string.
-     * @see <a href="https://github.com/mapbox/mapbox-java">MapBox PolylineUtils</a>
-     */
-    private static String encode(List<Point> route) {
-        StringBuilder result = new StringBuilder();
-        long lastLat = 0;
-        long lastLon = 0;
-        for (Point point : route) {
-            long lat = Math.round(point.getLat() * 1e5);
-            long diffLat = lat - lastLat;
-            diffLat = diffLat < 0 ? ~(diffLat << 1) : diffLat << 1;
-            while (diffLat >= 0x20) {
-                result.append(Character.toChars((int) ((0x20 | (diffLat & 0x1f)) + 63)));
-                diffLat >>= 5;
-            }
-            result.append(Character.toChars((int) (diffLat + 63)));
-            lastLat = lat;
-
-            long lon = Math.round(point.getLon() * 1e5);
-            long diffLon = lon - lastLon;
-            diffLon = diffLon < 0 ? ~(diffLon << 1) : diffLon << 1;
-            while (diffLon >= 0x20) {
-                result.append(Character.toChars((int) ((0x20 | (diffLon & 0x1f)) + 63)));
-                diffLon >>= 5;
-            }
-            result.append(Character.toChars((int) (diffLon + 63)));
-            lastLon = lon;
-        }
-        return result.toString();
+        ));
     }
 }
@@ -0,0 +1,196 @@
+import org.locationtech.spatial4j.shape.Point;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Encoder and decoder for the polyline format used by map APIs to represent routes as compact strings. Encoding appends
+ * characters directly to a caller-provided {@link StringBuilder} without allocating per point or per character, and
+ * can escape characters for use in a URL inline instead of in a separate pass.
+ *
+ * @see <a href="https://developers.google.com/maps/documentation/utilities/polylinealgorithm">Encoded Polyline
+ * Algorithm Format</a>
+ * @see MapServer
+ */
+public final class Polyline {
+    /**
+     * Number of decimal digits of each coordinate kept by default.
+     */
+    public static final int DEFAULT_PRECISION = 5;
+    /**
+     * Maximum supported number of decimal digits of each coordinate.
+     */
+    private static final int MAX_PRECISION = 9;
+    private static final char[] HEX_DIGITS = "0123456789ABCDEF".toCharArray();
+    /**
+     * Whether each encoded character must be escaped in a URL, matching {@link java.net.URLEncoder}. The encoding only
+     * uses characters from '?' (63) to '~' (126).
+     */
+    private static final boolean[] ESCAPE = new boolean[128];
+
+    static {
+        for (char c = '?'; c <= '~'; c += 1) {
+            ESCAPE[c] = !(c >= 'A' && c <= 'Z' || c >= 'a' && c <= 'z' || c == '_');
+        }
+    }
+
+    private Polyline() {
+    }
+
+    /**
+     * Returns the route encoded with the default precision.
+     *
+     * @param route the list of points representing the route.
+     * @return the encoded route.
+     */
+    public static String encode(List<Point> route) {
+        StringBuilder result = new StringBuilder(4 * route.size());
+        encode(route, DEFAULT_PRECISION, false, result);
+        return result.toString();
+    }
+
+    /**
+     * Appends the encoded route to the given {@link StringBuilder}.
+     *
+     * @param route     the list of points representing the route.
+     * @param precision the number of decimal digits of each coordinate to keep.
+     * @param escape    whether to escape characters for use in a URL query or path.
+     * @param out       the destination for the encoded route.
+     * @throws IllegalArgumentException if the precision is not between 0 and 9.
+     */
+    public static void encode(List<Point> route, int precision, boolean escape, StringBuilder out) {
+        double factor = factor(precision);
+        long lastLat = 0;
+        long lastLon = 0;
+        for (Point point : route) {
+            long lat = Math.round(point.getLat() * factor);
+            long lon = Math.round(point.getLon() * factor);
+            encodeValue(lat - lastLat, escape, out);
+            encodeValue(lon - lastLon, escape, out);
+            lastLat = lat;
+            lastLon = lon;
+        }
+    }
+
+    /**
+     * Appends the encoded route to the given {@link StringBuilder}, where the route is a sequence of vertex indices
+     * into arrays of coordinates.
+     *
+     * @param route     the vertex indices representing the route.
+     * @param lats      the latitude of each vertex.
+     * @param lons      the longitude of each vertex.
+     * @param precision the number of decimal digits of each coordinate to keep.
+     * @param escape    whether to escape characters for use in a URL query or path.
+     * @param out       the destination for the encoded route.
+     * @throws IllegalArgumentException if the precision is not between 0 and 9.
+     */
+    public static void encode(int[] route, double[] lats, double[] lons, int precision, boolean escape,
+                              StringBuilder out) {
+        double factor = factor(precision);
+        long lastLat = 0;
+        long lastLon = 0;
+        for (int v : route) {
+            long lat = Math.round(lats[v] * factor);
+            long lon = Math.round(lons[v] * factor);
+            encodeValue(lat - lastLat, escape, out);
+            encodeValue(lon - lastLon, escape, out);
+            lastLat = lat;
+            lastLon = lon;
+        }
+    }
+
+    /**
+     * Returns the coordinates of the unescaped encoded route as an array of alternating latitudes and longitudes.
+     *
+     * @param polyline  the encoded route.
+     * @param precision the number of decimal digits of each coordinate that were kept.
+     * @return the coordinates of the route as an array of alternating latitudes and longitudes.
+     * @throws IllegalArgumentException if the precision is not between 0 and 9 or if the encoded route is malformed.
+     */
+    public static double[] decode(CharSequence polyline, int precision) {
+        double factor = factor(precision);
+        // Every coordinate takes at least one character
+        double[] result = new double[polyline.length()];
+        int size = 0;
+        long lastLat = 0;
+        long lastLon = 0;
+        int i = 0;
+        while (i < polyline.length()) {
+            long shifted = 0;
+            int shift = 0;
+            int chunk;
+            do {
+                if (i == polyline.length() || shift > 60) {
+                    throw new IllegalArgumentException("Malformed polyline at index " + i);
+                }
+                chunk = polyline.charAt(i) - 63;
+                if (chunk < 0 || chunk > 63) {
+                    throw new IllegalArgumentException("Malformed polyline at index " + i);
+                }
+                shifted |= (long) (chunk & 0x1f) << shift;
+                shift += 5;
+                i += 1;
+            } while (chunk >= 0x20);
+            // Undo the zigzag encoding that moves the sign into the lowest bit, then undo the delta encoding
+            long delta = (shifted & 1) != 0 ? ~(shifted >>> 1) : shifted >>> 1;
+            if (size % 2 == 0) {
+                lastLat += delta;
+                result[size] = lastLat / factor;
+            } else {
+                lastLon += delta;
+                result[size] = lastLon / factor;
+            }
+            size += 1;
+        }
+        if (size % 2 != 0) {
+            throw new IllegalArgumentException("Polyline has an odd number of coordinates");
+        }
+        return Arrays.copyOf(result, size);
+    }
+
+    /**
+     * Appends a single signed value to the encoded route.
+     *
+     * @param value  the difference from the previous coordinate, scaled to an integer.
+     * @param escape whether to escape characters for use in a URL.
+     * @param out    the destination for the encoded value.
+     */
+    private static void encodeValue(long value, boolean escape, StringBuilder out) {
+        // Zigzag encoding moves the sign into the lowest bit so small negative values stay short
+        value = value < 0 ? ~(value << 1) : value << 1;
+        while (value >= 0x20) {
+            append((char) ((0x20 | (value & 0x1f)) + 63), escape, out);
+            value >>= 5;
+        }
+        append((char) (value + 63), escape, out);
+    }
+
+    /**
+     * Appends a character, percent-escaping it if necessary.
+     *
+     * @param c      the character to append.
+     * @param escape whether to escape characters for use in a URL.
+     * @param out    the destination for the character.
+     */
+    private static void append(char c, boolean escape, StringBuilder out) {
+        if (escape && ESCAPE[c]) {
+            out.append('%').append(HEX_DIGITS[c >> 4]).append(HEX_DIGITS[c & 0xf]);
+        } else {
+            out.append(c);
+        }
+    }
+
+    /**
+     * Returns the scaling factor for the given precision.
+     *
+     * @param precision the number of decimal digits of each coordinate to keep.
+     * @return ten to the power of the precision.
+     * @throws IllegalArgumentException if the precision is not between 0 and 9.
+     */
+    private static double factor(int precision) {
+        if (precision < 0 || precision > MAX_PRECISION) {
+            throw new IllegalArgumentException("Precision must be between 0 and " + MAX_PRECISION);
+        }
+        return Math.pow(10, precision);
+    }
+}
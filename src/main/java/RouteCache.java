@@ -0,0 +1,63 @@
+import org.locationtech.spatial4j.shape.Point;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+
+/**
+ * Least-recently-used cache of shortest paths, such as those in a {@link MapGraph}, keyed by the requested start and
+ * goal points so that endpoints showing the same route do not compute it again. Concurrent requests for the same
+ * uncached route share a single computation.
+ *
+ * @see MapGraph
+ * @see MapServer
+ * @see SingleFlight
+ */
+public class RouteCache {
+    private final BiFunction<Point, Point, List<Point>> shortestPaths;
+    private final Map<List<Point>, List<Point>> routes;
+    private final SingleFlight<List<Point>, List<Point>> inFlight;
+
+    /**
+     * Constructs an empty cache of the shortest paths computed by the given function that holds at most the given
+     * number of routes.
+     *
+     * @param shortestPaths the function returning the shortest path between two points, such as
+     *                      {@code map::shortestPath}, which must be safe to call from multiple threads.
+     * @param capacity      the maximum number of routes.
+     */
+    public RouteCache(BiFunction<Point, Point, List<Point>> shortestPaths, int capacity) {
+        this.shortestPaths = shortestPaths;
+        this.routes = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<List<Point>, List<Point>> eldest) {
+                return size() > capacity;
+            }
+        });
+        this.inFlight = new SingleFlight<>();
+    }
+
+    /**
+     * Returns a list of points representing the shortest path from the points closest to the start and goal.
+     *
+     * @param start the {@link Point} to start the shortest path.
+     * @param goal  the {@link Point} to end the shortest path.
+     * @return a list of points representing the shortest path from the points closest to the start and goal.
+     * @see MapGraph#shortestPath(Point, Point)
+     */
+    public List<Point> shortestPath(Point start, Point goal) {
+        List<Point> key = List.of(start, goal);
+        List<Point> route = routes.get(key);
+        if (route != null) {
+            return route;
+        }
+        // Compute outside of the cache lock so that other routes are not blocked
+        return inFlight.join(key, () -> {
+            List<Point> result = Collections.unmodifiableList(shortestPaths.apply(start, goal));
+            routes.put(key, result);
+            return result;
+        });
+    }
+}
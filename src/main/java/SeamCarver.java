@@ -1,18 +1,27 @@
-import graphs.shortestpaths.DijkstraSolver;
 import seamfinding.energy.DualGradientEnergyFunction;
 import seamfinding.energy.EnergyFunction;
-import seamfinding.AdjacencyListSeamFinder;
+import seamfinding.ArrayPicture;
+import seamfinding.CumulativeEnergyMap;
+import seamfinding.DynamicProgrammingSeamFinder;
+import seamfinding.EnergyMap;
 import seamfinding.Picture;
 import seamfinding.SeamFinder;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Scanner;
+import java.util.function.Consumer;
 
 /**
  * Seam carving, an approach for content-aware image resizing. Given a {@link Picture}, an {@link EnergyFunction}, and a
- * {@link SeamFinder} algorithm, {@link #removeHorizontal()} or {@link #removeVertical()} seams from the picture.
+ * {@link SeamFinder} algorithm, {@link #removeHorizontal()} or {@link #removeVertical()} seams from the picture. To
+ * remove many seams at once, {@link #removeHorizontal(int)} and {@link #removeVertical(int)} instead keep a
+ * {@link CumulativeEnergyMap} up to date between seams. Pictures are enlarged by {@link #insertHorizontal(int)} or
+ * {@link #insertVertical(int)}, which duplicate the seams that would be removed first. These batch methods always
+ * minimize the backward energy of the {@link EnergyFunction} with the dynamic programming table of the
+ * {@link CumulativeEnergyMap}, so they ignore the {@link SeamFinder}.
  *
  * @see Picture
  * @see EnergyFunction
@@ -28,17 +37,21 @@ public class SeamCarver {
      */
     private static final String OUTPUT_PATH = "data/seamcarving/result.png";
     /**
-     * The {@link EnergyFunction} for determining the minimum-cost seam.
+     * The {@link SeamFinder} implementation for removing one seam at a time.
+     */
+    private final SeamFinder seamFinder;
+    /**
+     * The {@link EnergyFunction} implementation.
      */
     private final EnergyFunction f;
     /**
-     * The {@link SeamFinder} implementation.
+     * The {@link Picture}, which shrinks in place as seams are removed and is replaced as seams are inserted.
      */
-    private final SeamFinder seamFinder;
+    private ArrayPicture picture;
     /**
-     * The {@link Picture}.
+     * The {@link EnergyMap} of the picture, updated as seams are removed.
      */
-    private Picture picture;
+    private EnergyMap energies;
 
     /**
      * Constructs a seam carver by reading the {@link Picture} from the file, using the given {@link EnergyFunction} and
@@ -53,14 +66,16 @@ public class SeamCarver {
         if (file == null || f == null || seamFinder == null) {
             throw new IllegalArgumentException("Arguments cannot be null");
         }
-        this.picture = new Picture(file);
-        this.f = f;
+        this.picture = new ArrayPicture(file);
         this.seamFinder = seamFinder;
+        this.f = f;
+        this.energies = new EnergyMap(picture, f);
     }
 
     public static void main(String[] args) throws IOException {
         EnergyFunction f = new DualGradientEnergyFunction();
-        SeamFinder seamFinder = new AdjacencyListSeamFinder(DijkstraSolver::new);
+        // Only used to remove one seam at a time, since resizing uses the batch methods
+        SeamFinder seamFinder = new DynamicProgrammingSeamFinder();
         SeamCarver seamCarver = new SeamCarver(new File(INPUT_PATH), f, seamFinder);
 
         int originalWidth = seamCarver.picture.width();
@@ -69,21 +84,24 @@ public class SeamCarver {
         int newWidth = promptForSize("width", originalWidth);
         int newHeight = promptForSize("height", originalHeight);
 
-        System.out.print("Reducing width... ");
-        for (int i = 0; i < originalWidth - newWidth; i++) {
-            seamCarver.removeVertical();
-            if (i % 10 == 0) {
-                System.out.print(originalWidth - i + " ");
-            }
+        if (newWidth < originalWidth) {
+            System.out.print("Reducing width... ");
+            seamCarver.removeVertical(originalWidth - newWidth);
+            System.out.println(seamCarver.picture.width());
+        } else if (newWidth > originalWidth) {
+            System.out.print("Enlarging width... ");
+            seamCarver.insertVertical(newWidth - originalWidth);
+            System.out.println(seamCarver.picture.width());
         }
-        System.out.println();
 
-        System.out.print("Reducing height... ");
-        for (int i = 0; i < originalHeight - newHeight; i++) {
-            seamCarver.removeHorizontal();
-            if (i % 10 == 0) {
-                System.out.print(originalHeight - i  + " ");
-            }
+        if (newHeight < originalHeight) {
+            System.out.print("Reducing height... ");
+            seamCarver.removeHorizontal(originalHeight - newHeight);
+            System.out.println(seamCarver.picture.height());
+        } else if (newHeight > originalHeight) {
+            System.out.print("Enlarging height... ");
+            seamCarver.insertHorizontal(newHeight - originalHeight);
+            System.out.println(seamCarver.picture.height());
         }
         seamCarver.picture.save(new File(OUTPUT_PATH));
     }
@@ -92,10 +110,12 @@ public class SeamCarver {
      * Gets new size for resizing image.
      *
      * @param dimension the type of dimension ("width" or "height").
-     * @param max       the current dimension of this type.
+     * @param current   the current dimension of this type.
      * @return          the new dimension to resize to.
      */
-    private static int promptForSize(String dimension, int max) {
+    private static int promptForSize(String dimension, int current) {
+        // Inserted seams are found by removing them first, which must leave at least 3 pixels for the energy function
+        int max = 2 * current - 3;
         Scanner console = new Scanner(System.in);
         while (true) {
             System.out.print("Enter a new " + dimension + " in [3, " + max + "]: ");
@@ -112,17 +132,9 @@ public class SeamCarver {
      * @return a minimum-cost horizontal seam.
      */
     public List<Integer> removeHorizontal() {
-        List<Integer> seam = seamFinder.findHorizontal(picture, f);
-        Picture result = new Picture(picture.width(), picture.height() - 1);
-        for (int x = 0; x < picture.width(); x += 1) {
-            for (int y = 0; y < seam.get(x); y += 1) {
-                result.set(x, y, picture.get(x, y));
-            }
-            for (int y = seam.get(x); y < picture.height() - 1; y += 1) {
-                result.set(x, y, picture.get(x, y + 1));
-            }
-        }
-        picture = result;
+        List<Integer> seam = seamFinder.findHorizontal(picture, energies);
+        picture.removeHorizontal(seam);
+        energies.removeHorizontal(picture, seam);
         return seam;
     }
 
@@ -132,17 +144,215 @@ public class SeamCarver {
      * @return a minimum-cost vertical seam.
      */
     public List<Integer> removeVertical() {
-        List<Integer> seam = seamFinder.findVertical(picture, f);
-        Picture result = new Picture(picture.width() - 1, picture.height());
-        for (int y = 0; y < picture.height(); y += 1) {
-            for (int x = 0; x < seam.get(y); x += 1) {
-                result.set(x, y, picture.get(x, y));
+        List<Integer> seam = seamFinder.findVertical(picture, energies);
+        picture.removeVertical(seam);
+        energies.removeVertical(picture, seam);
+        return seam;
+    }
+
+    /**
+     * Removes and returns the given number of minimum-cost horizontal seams from the picture, computing each seam
+     * exactly.
+     *
+     * @param k the number of seams to remove.
+     * @return the removed seams in order, each in the coordinates of the picture before any seams were removed.
+     * @throws IllegalArgumentException if k is negative or not less than the height of the picture.
+     * @see #removeHorizontal(int, boolean)
+     */
+    public List<List<Integer>> removeHorizontal(int k) {
+        return removeHorizontal(k, true);
+    }
+
+    /**
+     * Removes and returns the given number of horizontal seams from the picture. Rather than finding each seam from
+     * scratch, a {@link CumulativeEnergyMap} is filled once and updated after each seam is removed. Its dynamic
+     * programming table always minimizes backward energy, regardless of the {@link SeamFinder} of this carver.
+     *
+     * @param k     the number of seams to remove.
+     * @param exact whether each seam must have minimum cost, or may be approximate in exchange for faster updates.
+     * @return the removed seams in order, each in the coordinates of the picture before any seams were removed.
+     * @throws IllegalArgumentException if k is negative or not less than the height of the picture.
+     */
+    public List<List<Integer>> removeHorizontal(int k, boolean exact) {
+        return removeAll(picture, energies, k, exact, seam -> {
+            picture.removeHorizontal(seam);
+            energies.removeHorizontal(picture, seam);
+        });
+    }
+
+    /**
+     * Removes and returns the given number of minimum-cost vertical seams from the picture, computing each seam
+     * exactly.
+     *
+     * @param k the number of seams to remove.
+     * @return the removed seams in order, each in the coordinates of the picture before any seams were removed.
+     * @throws IllegalArgumentException if k is negative or not less than the width of the picture.
+     * @see #removeVertical(int, boolean)
+     */
+    public List<List<Integer>> removeVertical(int k) {
+        return removeVertical(k, true);
+    }
+
+    /**
+     * Removes and returns the given number of vertical seams from the picture. Rather than finding each seam from
+     * scratch, a {@link CumulativeEnergyMap} is filled once and updated after each seam is removed. Its dynamic
+     * programming table always minimizes backward energy, regardless of the {@link SeamFinder} of this carver.
+     *
+     * @param k     the number of seams to remove.
+     * @param exact whether each seam must have minimum cost, or may be approximate in exchange for faster updates.
+     * @return the removed seams in order, each in the coordinates of the picture before any seams were removed.
+     * @throws IllegalArgumentException if k is negative or not less than the width of the picture.
+     */
+    public List<List<Integer>> removeVertical(int k, boolean exact) {
+        return removeAll(picture.transposed(), energies, k, exact, seam -> {
+            picture.removeVertical(seam);
+            energies.removeVertical(picture, seam);
+        });
+    }
+
+    /**
+     * Inserts the given number of horizontal seams into the picture, enlarging its height. The seams are the first k
+     * seams that {@link #removeHorizontal(int)} would remove, found in one batch on a copy of the picture so that they
+     * never overlap. Each pixel of each seam is duplicated as the average of itself and the pixel below it.
+     *
+     * @param k the number of seams to insert.
+     * @return the inserted seams in order, each in the coordinates of the picture before any seams were inserted.
+     * @throws IllegalArgumentException if k is negative or not less than the height of the picture.
+     */
+    public List<List<Integer>> insertHorizontal(int k) {
+        ArrayPicture copy = new ArrayPicture(picture);
+        EnergyMap copyEnergies = new EnergyMap(copy, f);
+        List<List<Integer>> seams = removeAll(copy, copyEnergies, k, true, seam -> {
+            copy.removeHorizontal(seam);
+            copyEnergies.removeHorizontal(copy, seam);
+        });
+        ArrayPicture result = new ArrayPicture(picture.width(), picture.height() + k);
+        insertAll(picture, result, seams);
+        replace(result);
+        return seams;
+    }
+
+    /**
+     * Inserts the given number of vertical seams into the picture, enlarging its width. The seams are the first k
+     * seams that {@link #removeVertical(int)} would remove, found in one batch on a copy of the picture so that they
+     * never overlap. Each pixel of each seam is duplicated as the average of itself and the pixel right of it.
+     *
+     * @param k the number of seams to insert.
+     * @return the inserted seams in order, each in the coordinates of the picture before any seams were inserted.
+     * @throws IllegalArgumentException if k is negative or not less than the width of the picture.
+     */
+    public List<List<Integer>> insertVertical(int k) {
+        ArrayPicture copy = new ArrayPicture(picture);
+        EnergyMap copyEnergies = new EnergyMap(copy, f);
+        List<List<Integer>> seams = removeAll(copy.transposed(), copyEnergies, k, true, seam -> {
+            copy.removeVertical(seam);
+            copyEnergies.removeVertical(copy, seam);
+        });
+        ArrayPicture result = new ArrayPicture(picture.width() + k, picture.height());
+        insertAll(picture.transposed(), result.transposed(), seams);
+        replace(result);
+        return seams;
+    }
+
+    /**
+     * Copies the view of the picture into the view of the result, duplicating each pixel of the horizontal seams.
+     *
+     * @param view   the picture or its transposed view.
+     * @param result the enlarged picture or its transposed view, with one more row per seam.
+     * @param seams  the non-overlapping horizontal seams of the view.
+     */
+    private static void insertAll(Picture view, Picture result, List<List<Integer>> seams) {
+        boolean[] duplicated = new boolean[view.height()];
+        for (int x = 0; x < view.width(); x += 1) {
+            for (List<Integer> seam : seams) {
+                duplicated[seam.get(x)] = true;
             }
-            for (int x = seam.get(y); x < picture.width() - 1; x += 1) {
-                result.set(x, y, picture.get(x + 1, y));
+            int i = 0;
+            for (int y = 0; y < view.height(); y += 1) {
+                int rgb = view.get(x, y);
+                result.set(x, i, rgb);
+                i += 1;
+                if (duplicated[y]) {
+                    // The last row has no pixel below it, so it is averaged with the pixel above it
+                    int neighbor = view.get(x, y < view.height() - 1 ? y + 1 : y - 1);
+                    result.set(x, i, average(rgb, neighbor));
+                    i += 1;
+                    duplicated[y] = false;
+                }
             }
         }
+    }
+
+    /**
+     * Returns the color whose red, green, and blue components are each the average of those of the two colors,
+     * rounded down.
+     *
+     * @param a the first color.
+     * @param b the second color.
+     * @return the average of the two colors.
+     */
+    private static int average(int a, int b) {
+        // Shared bits plus half the differing bits, masked so that no bit carries into the next component
+        return (a & b) + (((a ^ b) & 0xFEFEFEFE) >>> 1);
+    }
+
+    /**
+     * Replaces the picture with the given picture and recomputes its energies.
+     *
+     * @param result the new picture.
+     */
+    private void replace(ArrayPicture result) {
         picture = result;
-        return seam;
+        energies = new EnergyMap(picture, f);
+    }
+
+    /**
+     * Removes and returns the given number of horizontal seams from the view of the picture.
+     *
+     * @param view     the picture or its transposed view, which shrinks as each seam is removed.
+     * @param energies the {@link EnergyMap} of the picture.
+     * @param k        the number of seams to remove.
+     * @param exact    whether each seam must have minimum cost.
+     * @param remove   the action that removes a horizontal seam of the view from the picture and its energies.
+     * @return the removed seams in order, each in the coordinates of the view before any seams were removed.
+     * @throws IllegalArgumentException if k is negative or not less than the height of the view.
+     */
+    private static List<List<Integer>> removeAll(Picture view, EnergyMap energies, int k, boolean exact,
+                                                 Consumer<List<Integer>> remove) {
+        if (k < 0 || k >= view.height()) {
+            throw new IllegalArgumentException("Number of seams must leave at least one line of pixels");
+        }
+        // The original row of each remaining pixel in each column
+        int[][] original = new int[view.width()][view.height()];
+        for (int[] column : original) {
+            for (int y = 0; y < column.length; y += 1) {
+                column[y] = y;
+            }
+        }
+        CumulativeEnergyMap costs = new CumulativeEnergyMap(view, energies);
+        List<List<Integer>> result = new ArrayList<>(k);
+        for (int i = 0; i < k; i += 1) {
+            List<Integer> seam = costs.findHorizontal();
+            remove.accept(seam);
+            costs.removeHorizontal(seam, exact);
+            List<Integer> removed = new ArrayList<>(seam.size());
+            int height = view.height() + 1;
+            for (int x = 0; x < seam.size(); x += 1) {
+                int y = seam.get(x);
+                removed.add(original[x][y]);
+                System.arraycopy(original[x], y + 1, original[x], y, height - 1 - y);
+            }
+            result.add(removed);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the current picture.
+     *
+     * @return the current picture.
+     */
+    public Picture picture() {
+        return picture;
     }
 }
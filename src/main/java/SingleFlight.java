@@ -0,0 +1,96 @@
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent computations with the same key so that only one runs at a time and every caller receives its
+ * result. Unlike a cache, a result is forgotten as soon as its computation completes, so a later call with the same
+ * key starts a new computation.
+ *
+ * @param <K> the type of keys.
+ * @param <T> the type of results.
+ * @see MapServer
+ */
+public class SingleFlight<K, T> {
+    /**
+     * {@link ConcurrentMap} of each key to the result of its in-flight computation.
+     */
+    private final ConcurrentMap<K, CompletableFuture<T>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * Returns a future for the result of the asynchronous task. If a task with the same key is already in flight, its
+     * future is returned and the given task is not started.
+     *
+     * @param key  the key identifying equivalent tasks.
+     * @param task the asynchronous task to start if no equivalent task is in flight.
+     * @return a future for the result of the in-flight task with the given key.
+     */
+    public CompletableFuture<T> run(K key, Supplier<? extends CompletionStage<T>> task) {
+        CompletableFuture<T> created = new CompletableFuture<>();
+        CompletableFuture<T> existing = inFlight.putIfAbsent(key, created);
+        if (existing != null) {
+            return existing;
+        }
+        try {
+            task.get().whenComplete((result, e) -> {
+                inFlight.remove(key, created);
+                if (e != null) {
+                    created.completeExceptionally(e);
+                } else {
+                    created.complete(result);
+                }
+            });
+        } catch (RuntimeException e) {
+            inFlight.remove(key, created);
+            created.completeExceptionally(e);
+        }
+        return created;
+    }
+
+    /**
+     * Returns the result of the task, running it on the calling thread unless a task with the same key is already in
+     * flight, in which case this waits for that task's result instead.
+     *
+     * @param key  the key identifying equivalent tasks.
+     * @param task the task to run if no equivalent task is in flight.
+     * @return the result of the in-flight task with the given key.
+     * @throws RuntimeException if the in-flight task throws an exception.
+     */
+    public T join(K key, Supplier<T> task) {
+        CompletableFuture<T> created = new CompletableFuture<>();
+        CompletableFuture<T> existing = inFlight.putIfAbsent(key, created);
+        if (existing != null) {
+            try {
+                return existing.join();
+            } catch (CompletionException e) {
+                // Rethrow what the task threw so that waiters see the same exception as the caller that ran it
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+        try {
+            T result = task.get();
+            inFlight.remove(key, created);
+            created.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            inFlight.remove(key, created);
+            created.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * Returns the number of keys with a computation in flight.
+     *
+     * @return the number of keys with a computation in flight.
+     */
+    public int size() {
+        return inFlight.size();
+    }
+}
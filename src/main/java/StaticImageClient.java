@@ -0,0 +1,53 @@
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Asynchronous client for fetching static map images. A single {@link HttpClient} is shared by all requests so that
+ * connections are pooled and, when the upstream supports it, multiplexed over HTTP/2.
+ *
+ * @see MapServer
+ */
+public class StaticImageClient {
+    private final HttpClient client;
+    private final Duration requestTimeout;
+
+    /**
+     * Constructs a new client with the given timeouts.
+     *
+     * @param connectTimeout the maximum time to establish a new connection.
+     * @param requestTimeout the maximum time to wait for the response headers of each request.
+     */
+    public StaticImageClient(Duration connectTimeout, Duration requestTimeout) {
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .connectTimeout(connectTimeout)
+                .build();
+        this.requestTimeout = requestTimeout;
+    }
+
+    /**
+     * Returns a future for the bytes of the image at the given URI. The future completes exceptionally with an
+     * {@link IOException} if the request fails, times out, or does not return status 200.
+     *
+     * @param uri the URI of the image.
+     * @return a future for the bytes of the image.
+     */
+    public CompletableFuture<byte[]> fetch(URI uri) {
+        HttpRequest request = HttpRequest.newBuilder(uri).timeout(requestTimeout).GET().build();
+        return client.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray()).thenApply(response -> {
+            if (response.statusCode() != 200) {
+                // Report only the host since the query string contains the access token
+                throw new CompletionException(new IOException(
+                        "Unexpected status " + response.statusCode() + " from " + uri.getHost()));
+            }
+            return response.body();
+        });
+    }
+}
@@ -0,0 +1,130 @@
+import seamfinding.MappedPicture;
+import seamfinding.Picture;
+import seamfinding.SeamFinder;
+import seamfinding.StreamingSeamFinder;
+import seamfinding.energy.DualGradientEnergyFunction;
+import seamfinding.energy.EnergyFunction;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+
+/**
+ * Seam carving for pictures too large to fit in memory. Unlike {@link SeamCarver}, which reads the whole image into
+ * the heap, the picture is a {@link MappedPicture} backed by a raw file, seams are found by a
+ * {@link StreamingSeamFinder} that keeps only two rows of seam costs, and seams are removed in place within the file.
+ *
+ * @see SeamCarver
+ * @see MappedPicture
+ * @see StreamingSeamFinder
+ */
+public class StreamingSeamCarver {
+    /**
+     * The {@link SeamFinder} implementation.
+     */
+    private final SeamFinder seamFinder = new StreamingSeamFinder();
+    /**
+     * The {@link EnergyFunction} implementation.
+     */
+    private final EnergyFunction f;
+    /**
+     * The {@link Picture}, which shrinks in place within its file as seams are removed.
+     */
+    private final MappedPicture picture;
+
+    /**
+     * Constructs a seam carver for the given picture using the given {@link EnergyFunction}.
+     *
+     * @param picture the picture to carve in place.
+     * @param f       the {@link EnergyFunction}.
+     */
+    public StreamingSeamCarver(MappedPicture picture, EnergyFunction f) {
+        if (picture == null || f == null) {
+            throw new IllegalArgumentException("Arguments cannot be null");
+        }
+        this.picture = picture;
+        this.f = f;
+    }
+
+    /**
+     * Carves a raw file to a new size without reading it into memory. The input file is left unchanged.
+     *
+     * @param args the input raw file, its width and height, the output raw file, and the new width and height.
+     * @throws IOException if an error occurs while reading or writing the files.
+     */
+    public static void main(String[] args) throws IOException {
+        String usage = "Usage: StreamingSeamCarver input.raw width height output.raw newWidth newHeight";
+        if (args.length != 6) {
+            System.out.println(usage);
+            return;
+        }
+        Path input = Path.of(args[0]);
+        Path output = Path.of(args[3]);
+        int width = Integer.parseInt(args[1]);
+        int height = Integer.parseInt(args[2]);
+        int newWidth = Integer.parseInt(args[4]);
+        int newHeight = Integer.parseInt(args[5]);
+        // Energy functions need at least 3 pixels in each direction, and seams can only be removed
+        if (newWidth < 3 || newWidth > width || newHeight < 3 || newHeight > height) {
+            System.out.println(usage);
+            System.out.println("newWidth must be between 3 and width, and newHeight must be between 3 and height");
+            return;
+        }
+
+        // Carve a working copy so that the output file only contains the remaining pixels
+        Path copy = Files.createTempFile(output.toAbsolutePath().getParent(), "carving", ".raw");
+        try {
+            Files.copy(input, copy, StandardCopyOption.REPLACE_EXISTING);
+            MappedPicture picture = new MappedPicture(copy, width, height);
+            StreamingSeamCarver seamCarver = new StreamingSeamCarver(picture, new DualGradientEnergyFunction());
+
+            System.out.print("Reducing width... ");
+            while (picture.width() > newWidth) {
+                seamCarver.removeVertical();
+            }
+            System.out.println(picture.width());
+
+            System.out.print("Reducing height... ");
+            while (picture.height() > newHeight) {
+                seamCarver.removeHorizontal();
+            }
+            System.out.println(picture.height());
+            MappedPicture.writeRaw(picture, output);
+        } finally {
+            Files.deleteIfExists(copy);
+        }
+    }
+
+    /**
+     * Removes and returns a minimum-cost horizontal seam from the picture.
+     *
+     * @return a minimum-cost horizontal seam.
+     */
+    public List<Integer> removeHorizontal() {
+        List<Integer> seam = seamFinder.findHorizontal(picture, f);
+        picture.removeHorizontal(seam);
+        return seam;
+    }
+
+    /**
+     * Removes and returns a minimum-cost vertical seam from the picture.
+     *
+     * @return a minimum-cost vertical seam.
+     */
+    public List<Integer> removeVertical() {
+        List<Integer> seam = seamFinder.findVertical(picture, f);
+        picture.removeVertical(seam);
+        return seam;
+    }
+
+    /**
+     * Returns the current picture.
+     *
+     * @return the current picture.
+     */
+    public Picture picture() {
+        return picture;
+    }
+}
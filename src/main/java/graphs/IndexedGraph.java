@@ -0,0 +1,263 @@
+package graphs;
+
+import java.util.*;
+
+/**
+ * Immutable snapshot of the vertices and edges reachable from one or more start vertices in a {@link Graph}. Vertices
+ * are numbered from 0 in breadth-first order, and the outgoing edges of each vertex are stored contiguously in
+ * primitive arrays so that algorithms can use {@code int} indices instead of hashing vertices. Each vertex's neighbors
+ * are requested exactly once, which also avoids regenerating edges in graphs that create them on demand.
+ *
+ * @param <V> the type of vertices.
+ * @see Graph
+ */
+public class IndexedGraph<V> implements Graph<V> {
+    /**
+     * {@link List} of vertices by index.
+     */
+    private final List<V> vertices;
+    /**
+     * {@link Map} of each vertex to its index.
+     */
+    private final Map<V, Integer> indices;
+    /**
+     * The outgoing edges of vertex {@code v} are the edge indices from {@code offsets[v]} to {@code offsets[v + 1]}.
+     */
+    private final int[] offsets;
+    /**
+     * The destination vertex index of each edge.
+     */
+    private final int[] targets;
+    /**
+     * The weight of each edge.
+     */
+    private final double[] weights;
+    /**
+     * The {@link Edge} objects by edge index.
+     */
+    private final List<Edge<V>> edges;
+    /**
+     * The graph with every edge reversed, or null if it has not been computed yet.
+     */
+    private IndexedGraph<V> reverse;
+
+    /**
+     * Constructs a snapshot of the vertices and edges reachable from the start vertex.
+     *
+     * @param graph the input graph.
+     * @param start the start vertex, which will have index 0.
+     */
+    public IndexedGraph(Graph<V> graph, V start) {
+        this(graph, List.of(start));
+    }
+
+    /**
+     * Constructs a snapshot of the vertices and edges reachable from any of the start vertices.
+     *
+     * @param graph  the input graph.
+     * @param starts the start vertices, which will have the lowest indices in iteration order.
+     */
+    public IndexedGraph(Graph<V> graph, Collection<? extends V> starts) {
+        vertices = new ArrayList<>();
+        indices = new HashMap<>();
+        List<Edge<V>> edgeList = new ArrayList<>();
+        List<Integer> vertexOffsets = new ArrayList<>();
+        int[] edgeTargets = new int[16];
+        for (V start : starts) {
+            if (!indices.containsKey(start)) {
+                indices.put(start, vertices.size());
+                vertices.add(start);
+            }
+        }
+        // Vertices are processed in index order, so each vertex's edges are appended contiguously
+        for (int from = 0; from < vertices.size(); from += 1) {
+            vertexOffsets.add(edgeList.size());
+            for (Edge<V> e : graph.neighbors(vertices.get(from))) {
+                Integer to = indices.get(e.to);
+                if (to == null) {
+                    to = vertices.size();
+                    vertices.add(e.to);
+                    indices.put(e.to, to);
+                }
+                if (edgeList.size() == edgeTargets.length) {
+                    edgeTargets = Arrays.copyOf(edgeTargets, 2 * edgeTargets.length);
+                }
+                edgeTargets[edgeList.size()] = to;
+                edgeList.add(e);
+            }
+        }
+        vertexOffsets.add(edgeList.size());
+
+        edges = Collections.unmodifiableList(edgeList);
+        offsets = new int[vertexOffsets.size()];
+        for (int v = 0; v < offsets.length; v += 1) {
+            offsets[v] = vertexOffsets.get(v);
+        }
+        targets = Arrays.copyOf(edgeTargets, edgeList.size());
+        weights = new double[edgeList.size()];
+        for (int e = 0; e < weights.length; e += 1) {
+            weights[e] = edgeList.get(e).weight;
+        }
+    }
+
+    /**
+     * Constructs the reverse of the given graph, where the edges into each vertex become its outgoing edges.
+     *
+     * @param forward the graph to reverse.
+     */
+    private IndexedGraph(IndexedGraph<V> forward) {
+        vertices = forward.vertices;
+        indices = forward.indices;
+        int n = forward.size();
+        int m = forward.numEdges();
+        // Counting sort of the edges by destination
+        offsets = new int[n + 1];
+        for (int e = 0; e < m; e += 1) {
+            offsets[forward.targets[e] + 1] += 1;
+        }
+        for (int v = 0; v < n; v += 1) {
+            offsets[v + 1] += offsets[v];
+        }
+        int[] next = Arrays.copyOf(offsets, n);
+        targets = new int[m];
+        weights = new double[m];
+        List<Edge<V>> edgeList = new ArrayList<>(Collections.nCopies(m, null));
+        for (int from = 0; from < n; from += 1) {
+            for (int e = forward.offsets[from]; e < forward.offsets[from + 1]; e += 1) {
+                int r = next[forward.targets[e]]++;
+                Edge<V> edge = forward.edges.get(e);
+                targets[r] = from;
+                weights[r] = edge.weight;
+                edgeList.set(r, new Edge<>(edge.to, edge.from, edge.weight));
+            }
+        }
+        edges = Collections.unmodifiableList(edgeList);
+        reverse = forward;
+    }
+
+    /**
+     * Returns the graph itself if it is already an {@link IndexedGraph}, or otherwise a snapshot of the vertices and
+     * edges reachable from any of the start vertices.
+     *
+     * @param graph  the input graph.
+     * @param starts the start vertices.
+     * @param <V>    the type of vertices.
+     * @return an {@link IndexedGraph} for the input graph.
+     */
+    public static <V> IndexedGraph<V> of(Graph<V> graph, Collection<? extends V> starts) {
+        if (graph instanceof IndexedGraph<V> indexed) {
+            return indexed;
+        }
+        return new IndexedGraph<>(graph, starts);
+    }
+
+    @Override
+    public List<Edge<V>> neighbors(V vertex) {
+        int v = index(vertex);
+        if (v < 0) {
+            return List.of();
+        }
+        return edges.subList(offsets[v], offsets[v + 1]);
+    }
+
+    /**
+     * Returns the graph with the same vertex indices where every edge is reversed. The result is computed once and
+     * shared by later calls.
+     *
+     * @return the graph with every edge reversed.
+     */
+    public synchronized IndexedGraph<V> reverse() {
+        if (reverse == null) {
+            reverse = new IndexedGraph<>(this);
+        }
+        return reverse;
+    }
+
+    /**
+     * Returns the number of vertices.
+     *
+     * @return the number of vertices.
+     */
+    public int size() {
+        return vertices.size();
+    }
+
+    /**
+     * Returns the number of edges.
+     *
+     * @return the number of edges.
+     */
+    public int numEdges() {
+        return edges.size();
+    }
+
+    /**
+     * Returns the vertex with the given index.
+     *
+     * @param v the vertex index.
+     * @return the vertex with the given index.
+     */
+    public V vertex(int v) {
+        return vertices.get(v);
+    }
+
+    /**
+     * Returns the index of the given vertex, or -1 if the vertex is not in this graph.
+     *
+     * @param vertex the vertex.
+     * @return the index of the given vertex, or -1 if the vertex is not in this graph.
+     */
+    public int index(V vertex) {
+        return indices.getOrDefault(vertex, -1);
+    }
+
+    /**
+     * Returns the index of the first outgoing edge of the given vertex.
+     *
+     * @param v the vertex index.
+     * @return the index of the first outgoing edge of the given vertex.
+     */
+    public int firstEdge(int v) {
+        return offsets[v];
+    }
+
+    /**
+     * Returns one past the index of the last outgoing edge of the given vertex.
+     *
+     * @param v the vertex index.
+     * @return one past the index of the last outgoing edge of the given vertex.
+     */
+    public int lastEdge(int v) {
+        return offsets[v + 1];
+    }
+
+    /**
+     * Returns the destination vertex index of the given edge.
+     *
+     * @param e the edge index.
+     * @return the destination vertex index of the given edge.
+     */
+    public int target(int e) {
+        return targets[e];
+    }
+
+    /**
+     * Returns the weight of the given edge.
+     *
+     * @param e the edge index.
+     * @return the weight of the given edge.
+     */
+    public double weight(int e) {
+        return weights[e];
+    }
+
+    /**
+     * Returns the {@link Edge} for the given edge index.
+     *
+     * @param e the edge index.
+     * @return the {@link Edge} for the given edge index.
+     */
+    public Edge<V> edge(int e) {
+        return edges.get(e);
+    }
+}
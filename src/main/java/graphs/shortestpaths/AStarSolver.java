@@ -2,8 +2,8 @@ package graphs.shortestpaths;
 
 import graphs.AStarGraph;
 import graphs.Edge;
-import minpq.DoubleMapMinPQ;
 import minpq.MinPQ;
+import minpq.OptimizedHeapMinPQ;
 
 import java.util.*;
 
@@ -19,17 +19,31 @@ public class AStarSolver<V> {
     private final V goal;
 
     /**
-     * Constructs a new instance by executing A* search on the graph from the start to the goal.
+     * Constructs a new instance by executing A* search on the graph from the start to the goal using an
+     * {@link OptimizedHeapMinPQ} for the perimeter.
      *
      * @param graph the input graph.
      * @param start the start vertex.
      * @param goal  the goal vertex.
      */
     public AStarSolver(AStarGraph<V> graph, V start, V goal) {
+        this(graph, start, goal, OptimizedHeapMinPQ::new);
+    }
+
+    /**
+     * Constructs a new instance by executing A* search on the graph from the start to the goal using the given
+     * {@link MinPQ} implementation for the perimeter.
+     *
+     * @param graph the input graph.
+     * @param start the start vertex.
+     * @param goal  the goal vertex.
+     * @param pq    the constructor for the {@link MinPQ} implementation.
+     */
+    public AStarSolver(AStarGraph<V> graph, V start, V goal, MinPQ.Constructor<V> pq) {
         edgeTo = new HashMap<>();
         distTo = new HashMap<>();
         this.goal = goal;
-        MinPQ<V> perimeter = new DoubleMapMinPQ<>();
+        MinPQ<V> perimeter = pq.run();
         perimeter.add(start, 0.0);
         edgeTo.put(start, null);
         distTo.put(start, 0.0);
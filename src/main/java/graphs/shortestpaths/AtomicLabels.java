@@ -0,0 +1,100 @@
+package graphs.shortestpaths;
+
+import graphs.IndexedGraph;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Distance and last-edge labels for the vertices of an {@link IndexedGraph}. Each label is replaced as a whole with a
+ * compare-and-set, so threads can relax edges concurrently without the distance and edge getting out of sync.
+ *
+ * @param <V> the type of vertices.
+ * @see IndexedGraph
+ */
+class AtomicLabels<V> {
+    /**
+     * The indexed graph.
+     */
+    private final IndexedGraph<V> graph;
+    /**
+     * The current label of each vertex, or null if the vertex has not been reached.
+     */
+    private final AtomicReferenceArray<Label> labels;
+
+    /**
+     * Constructs labels for the indexed graph where only the start vertex has been reached.
+     *
+     * @param graph the indexed graph.
+     * @param start the start vertex index.
+     */
+    AtomicLabels(IndexedGraph<V> graph, int start) {
+        this.graph = graph;
+        this.labels = new AtomicReferenceArray<>(graph.size());
+        labels.set(start, new Label(0.0, -1));
+    }
+
+    /**
+     * Returns the current distance to the given vertex, or positive infinity if it has not been reached.
+     *
+     * @param v the vertex index.
+     * @return the current distance to the given vertex.
+     */
+    double distTo(int v) {
+        Label label = labels.get(v);
+        return label == null ? Double.POSITIVE_INFINITY : label.dist;
+    }
+
+    /**
+     * Atomically updates the label of the edge's destination if the new distance is shorter.
+     *
+     * @param e       the edge index.
+     * @param newDist the distance to the destination through the edge.
+     * @return true if the label was updated.
+     */
+    boolean relax(int e, double newDist) {
+        int to = graph.target(e);
+        Label label = labels.get(to);
+        while (label == null || newDist < label.dist) {
+            if (labels.compareAndSet(to, label, new Label(newDist, e))) {
+                return true;
+            }
+            label = labels.get(to);
+        }
+        return false;
+    }
+
+    /**
+     * Returns the shortest path from the start vertex to the goal, or just the goal if it was never reached.
+     *
+     * @param goal the goal vertex.
+     * @return a list of vertices representing the shortest path.
+     */
+    List<V> solution(V goal) {
+        List<V> path = new ArrayList<>();
+        path.add(goal);
+        int curr = graph.index(goal);
+        while (curr >= 0 && labels.get(curr) != null && labels.get(curr).edge >= 0) {
+            int e = labels.get(curr).edge;
+            path.add(graph.edge(e).from);
+            curr = graph.index(graph.edge(e).from);
+        }
+        Collections.reverse(path);
+        return path;
+    }
+
+    /**
+     * The distance to a vertex along with the index of the last edge on that path (or -1 for the start vertex).
+     */
+    private static class Label {
+        private final double dist;
+        private final int edge;
+
+        Label(double dist, int edge) {
+            this.dist = dist;
+            this.edge = edge;
+        }
+    }
+}
@@ -0,0 +1,222 @@
+package graphs.shortestpaths;
+
+import graphs.Graph;
+import graphs.IndexedGraph;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Bucket-based many-to-many implementation of the {@link DistanceMatrix} interface. First, a bounded backward search
+ * from each target settles a ball of nearby vertices and stores each reached vertex's distance to the target in that
+ * vertex's <b>bucket</b>. Then, a forward search from each source scans the bucket of every vertex it settles to
+ * combine the two halves of each path. As in bidirectional search, the distance to a target is final once the forward
+ * radius plus the target's ball radius reaches it, so each forward search can stop that much earlier than a
+ * one-to-many search.
+ *
+ * @param <V> the type of vertices.
+ * @see DistanceMatrix
+ * @see DijkstraDistanceMatrix
+ * @see <a href="https://doi.org/10.1137/1.9781611972870.4">Computing Many-to-Many Shortest Paths Using Highway
+ * Hierarchies</a>
+ */
+public class BucketDistanceMatrix<V> implements DistanceMatrix<V> {
+    /**
+     * Number of forward settles between checks for whether every target is final.
+     */
+    private static final int CHECK_INTERVAL = 64;
+    private final double[][] distances;
+    private final int numTargets;
+
+    /**
+     * Constructs a new instance with backward balls that together hold about as many entries as the graph has
+     * vertices. If the graph is an {@link IndexedGraph}, it is searched directly and vertices outside of it are treated
+     * as unreachable.
+     *
+     * @param graph   the input graph.
+     * @param sources the source vertices.
+     * @param targets the target vertices.
+     */
+    public BucketDistanceMatrix(Graph<V> graph, List<V> sources, List<V> targets) {
+        this(IndexedGraph.of(graph, sources), sources, targets, -1);
+    }
+
+    /**
+     * Constructs a new instance where each backward search settles at most the given number of vertices. Larger balls
+     * use more memory but let the forward searches stop earlier.
+     *
+     * @param graph    the input graph.
+     * @param sources  the source vertices.
+     * @param targets  the target vertices.
+     * @param ballSize the maximum number of vertices settled by each backward search.
+     * @throws IllegalArgumentException if the ball size is not positive.
+     */
+    public BucketDistanceMatrix(Graph<V> graph, List<V> sources, List<V> targets, int ballSize) {
+        this(IndexedGraph.of(graph, sources), sources, targets, requirePositive(ballSize));
+    }
+
+    /**
+     * Constructs a new instance over the indexed graph.
+     *
+     * @param graph    the indexed graph.
+     * @param sources  the source vertices.
+     * @param targets  the target vertices.
+     * @param ballSize the maximum number of vertices settled by each backward search, or -1 for the default.
+     */
+    private BucketDistanceMatrix(IndexedGraph<V> graph, List<V> sources, List<V> targets, int ballSize) {
+        distances = new double[sources.size()][targets.size()];
+        numTargets = targets.size();
+        if (ballSize < 0) {
+            ballSize = Math.max(1, graph.size() / Math.max(1, targets.size()));
+        }
+
+        // Backward searches from each target record the distance to the target from every vertex they reach
+        Buckets buckets = new Buckets(graph.size());
+        double[] ballRadius = new double[targets.size()];
+        DijkstraSearch backward = new DijkstraSearch(graph.reverse());
+        for (int j = 0; j < targets.size(); j += 1) {
+            int t = graph.index(targets.get(j));
+            if (t < 0) {
+                ballRadius[j] = Double.POSITIVE_INFINITY;
+                continue;
+            }
+            backward.start(t);
+            for (int settled = 0; settled < ballSize; settled += 1) {
+                int v = backward.settleNext();
+                if (v < 0) {
+                    break;
+                }
+                buckets.add(v, j, backward.distTo(v));
+            }
+            // A path can cross from a settled forward vertex into the ball along an edge, so include the frontier
+            for (int i = 0; i < backward.numFrontier(); i += 1) {
+                int v = backward.frontier(i);
+                buckets.add(v, j, backward.distTo(v));
+            }
+            ballRadius[j] = backward.isDone() ? Double.POSITIVE_INFINITY : backward.radius();
+        }
+
+        // Forward searches from each source combine their distances with the bucket entries
+        DijkstraSearch forward = new DijkstraSearch(graph);
+        int[] unresolved = new int[targets.size()];
+        for (int i = 0; i < sources.size(); i += 1) {
+            double[] row = distances[i];
+            Arrays.fill(row, Double.POSITIVE_INFINITY);
+            int s = graph.index(sources.get(i));
+            if (s < 0) {
+                continue;
+            }
+            int numUnresolved = 0;
+            for (int j = 0; j < targets.size(); j += 1) {
+                if (graph.index(targets.get(j)) >= 0) {
+                    unresolved[numUnresolved] = j;
+                    numUnresolved += 1;
+                }
+            }
+            forward.start(s);
+            for (int settled = 1; numUnresolved > 0; settled += 1) {
+                int v = forward.settleNext();
+                if (v < 0) {
+                    break;
+                }
+                double dist = forward.distTo(v);
+                for (int entry = buckets.head[v]; entry >= 0; entry = buckets.next[entry]) {
+                    int j = buckets.column[entry];
+                    row[j] = Math.min(row[j], dist + buckets.dist[entry]);
+                }
+                if (settled % CHECK_INTERVAL == 0) {
+                    // Every unsettled vertex is at least dist away, so no remaining path can beat this bound
+                    int kept = 0;
+                    for (int k = 0; k < numUnresolved; k += 1) {
+                        int j = unresolved[k];
+                        if (row[j] > dist + ballRadius[j]) {
+                            unresolved[kept] = j;
+                            kept += 1;
+                        }
+                    }
+                    numUnresolved = kept;
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the ball size if it is positive.
+     *
+     * @param ballSize the maximum number of vertices settled by each backward search.
+     * @return the ball size.
+     * @throws IllegalArgumentException if the ball size is not positive.
+     */
+    private static int requirePositive(int ballSize) {
+        if (ballSize <= 0) {
+            throw new IllegalArgumentException("Ball size must be positive");
+        }
+        return ballSize;
+    }
+
+    @Override
+    public double distance(int source, int target) {
+        return distances[source][target];
+    }
+
+    @Override
+    public int numSources() {
+        return distances.length;
+    }
+
+    @Override
+    public int numTargets() {
+        return numTargets;
+    }
+
+    /**
+     * Linked lists of (target column, distance) entries for each vertex, stored in parallel arrays.
+     */
+    private static class Buckets {
+        /**
+         * The first entry in the bucket of each vertex, or -1 if its bucket is empty.
+         */
+        private final int[] head;
+        /**
+         * The next entry in the same bucket, or -1 if it is the last entry.
+         */
+        private int[] next;
+        /**
+         * The target column of each entry.
+         */
+        private int[] column;
+        /**
+         * The distance from the bucket's vertex to the entry's target.
+         */
+        private double[] dist;
+        private int size;
+
+        Buckets(int numVertices) {
+            head = new int[numVertices];
+            Arrays.fill(head, -1);
+            next = new int[16];
+            column = new int[16];
+            dist = new double[16];
+        }
+
+        /**
+         * Adds an entry to the bucket of the given vertex.
+         *
+         * @param v        the vertex index.
+         * @param target   the target column.
+         * @param distance the distance from the vertex to the target.
+         */
+        void add(int v, int target, double distance) {
+            if (size == next.length) {
+                next = Arrays.copyOf(next, 2 * size);
+                column = Arrays.copyOf(column, 2 * size);
+                dist = Arrays.copyOf(dist, 2 * size);
+            }
+            next[size] = head[v];
+            column[size] = target;
+            dist[size] = distance;
+            head[v] = size;
+            size += 1;
+        }
+    }
+}
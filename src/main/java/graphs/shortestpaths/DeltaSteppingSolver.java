@@ -0,0 +1,244 @@
+package graphs.shortestpaths;
+
+import graphs.Graph;
+import graphs.IndexedGraph;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * Delta-stepping implementation of the {@link ShortestPathSolver} interface. Vertices are grouped into buckets of
+ * distance width delta and the buckets are settled in increasing order. Within a bucket, <b>light</b> edges (weight at
+ * most delta) are relaxed repeatedly until the bucket stops changing, and <b>heavy</b> edges are relaxed once afterward.
+ * The edges of every vertex in a bucket are relaxed in parallel on a {@link ForkJoinPool} with atomic distance updates
+ * over an {@link IndexedGraph}. Edge weights must be non-negative.
+ *
+ * @param <V> the type of vertices.
+ * @see ShortestPathSolver
+ * @see DijkstraSolver
+ * @see <a href="https://doi.org/10.1016/S0196-6774(03)00076-2">Δ-stepping: a parallelizable shortest path
+ * algorithm</a>
+ */
+public class DeltaSteppingSolver<V> implements ShortestPathSolver<V> {
+    /**
+     * Minimum number of vertices in a bucket before its edges are relaxed in parallel.
+     */
+    private static final int PARALLEL_THRESHOLD = 256;
+    private final IndexedGraph<V> graph;
+    private final AtomicLabels<V> labels;
+    private final double delta;
+    /**
+     * {@link TreeMap} of each bucket number to the vertices that were added to it, including vertices that have since
+     * moved to a lower bucket.
+     */
+    private final TreeMap<Long, IntStream.Builder> buckets;
+    /**
+     * The bucket number each vertex is currently waiting in, or -1 if it is not waiting in any bucket.
+     */
+    private final long[] bucketOf;
+
+    /**
+     * Constructs a new instance by executing delta-stepping on the graph from the start using one thread per available
+     * processor and the average edge weight as the bucket width.
+     *
+     * @param graph the input graph.
+     * @param start the start vertex.
+     */
+    public DeltaSteppingSolver(Graph<V> graph, V start) {
+        this(graph, start, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Constructs a new instance by executing delta-stepping on the graph from the start using the given number of
+     * threads and the average edge weight as the bucket width.
+     *
+     * @param graph       the input graph.
+     * @param start       the start vertex.
+     * @param parallelism the number of threads.
+     * @throws IllegalArgumentException if the number of threads is not positive.
+     */
+    public DeltaSteppingSolver(Graph<V> graph, V start, int parallelism) {
+        this(new IndexedGraph<>(graph, start), parallelism, Double.NaN);
+    }
+
+    /**
+     * Constructs a new instance by executing delta-stepping on the graph from the start using the given number of
+     * threads and bucket width.
+     *
+     * @param graph       the input graph.
+     * @param start       the start vertex.
+     * @param parallelism the number of threads.
+     * @param delta       the bucket width.
+     * @throws IllegalArgumentException if the number of threads or the bucket width is not positive.
+     */
+    public DeltaSteppingSolver(Graph<V> graph, V start, int parallelism, double delta) {
+        this(new IndexedGraph<>(graph, start), parallelism, requirePositive(delta));
+    }
+
+    /**
+     * Constructs a new instance by executing delta-stepping on the indexed graph from vertex 0.
+     *
+     * @param graph       the indexed graph.
+     * @param parallelism the number of threads.
+     * @param delta       the bucket width, or NaN to use the average edge weight.
+     * @throws IllegalArgumentException if the number of threads is not positive.
+     */
+    private DeltaSteppingSolver(IndexedGraph<V> graph, int parallelism, double delta) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("Parallelism must be positive");
+        }
+        this.graph = graph;
+        this.labels = new AtomicLabels<>(graph, 0);
+        this.delta = Double.isNaN(delta) ? averageWeight(graph) : delta;
+        this.buckets = new TreeMap<>();
+        this.bucketOf = new long[graph.size()];
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            run(pool);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Settles each bucket in increasing order until no buckets remain.
+     *
+     * @param pool the pool for relaxing edges in parallel.
+     */
+    private void run(ForkJoinPool pool) {
+        for (int e = 0; e < graph.numEdges(); e += 1) {
+            if (graph.weight(e) < 0.0) {
+                throw new IllegalArgumentException("Negative edge weight " + graph.edge(e));
+            }
+        }
+        Arrays.fill(bucketOf, -1);
+        place(0);
+        while (!buckets.isEmpty()) {
+            long bucket = buckets.firstKey();
+            IntStream.Builder settled = IntStream.builder();
+            // Light edges can put vertices back into the current bucket, so repeat until it stays empty
+            while (buckets.containsKey(bucket)) {
+                int[] frontier = take(bucket);
+                for (int v : frontier) {
+                    settled.add(v);
+                }
+                placeAll(relaxAll(pool, frontier, true));
+            }
+            placeAll(relaxAll(pool, settled.build().distinct().toArray(), false));
+        }
+    }
+
+    /**
+     * Removes the given bucket and returns the vertices still waiting in it.
+     *
+     * @param bucket the bucket number.
+     * @return the vertices waiting in the bucket.
+     */
+    private int[] take(long bucket) {
+        return buckets.remove(bucket).build().filter(v -> {
+            if (bucketOf[v] != bucket) {
+                return false;
+            }
+            bucketOf[v] = -1;
+            return true;
+        }).toArray();
+    }
+
+    /**
+     * Relaxes either the light or heavy outgoing edges of each vertex, in parallel if there are enough vertices.
+     *
+     * @param pool     the pool for relaxing edges in parallel.
+     * @param vertices the vertices whose edges to relax.
+     * @param light    true to relax edges with weight at most delta, false to relax the other edges.
+     * @return the vertices whose distances decreased, possibly with duplicates.
+     */
+    private int[] relaxAll(ForkJoinPool pool, int[] vertices, boolean light) {
+        if (vertices.length < PARALLEL_THRESHOLD) {
+            return IntStream.of(vertices).flatMap(v -> relax(v, light)).toArray();
+        }
+        // Parallel streams started from within a pool run on that pool instead of the common pool
+        return pool.submit(() -> IntStream.of(vertices).parallel().flatMap(v -> relax(v, light)).toArray()).join();
+    }
+
+    /**
+     * Relaxes either the light or heavy outgoing edges of the vertex.
+     *
+     * @param from  the vertex whose edges to relax.
+     * @param light true to relax edges with weight at most delta, false to relax the other edges.
+     * @return the vertices whose distances decreased.
+     */
+    private IntStream relax(int from, boolean light) {
+        IntStream.Builder improved = IntStream.builder();
+        double fromDist = labels.distTo(from);
+        for (int e = graph.firstEdge(from); e < graph.lastEdge(from); e += 1) {
+            double weight = graph.weight(e);
+            if ((weight <= delta) == light && labels.relax(e, fromDist + weight)) {
+                improved.add(graph.target(e));
+            }
+        }
+        return improved.build();
+    }
+
+    /**
+     * Moves each vertex into the bucket for its current distance.
+     *
+     * @param vertices the vertices to move.
+     */
+    private void placeAll(int[] vertices) {
+        for (int v : vertices) {
+            place(v);
+        }
+    }
+
+    /**
+     * Moves the vertex into the bucket for its current distance. The vertex is left in its old bucket's list, where it
+     * is ignored because its bucket number no longer matches.
+     *
+     * @param v the vertex to move.
+     */
+    private void place(int v) {
+        long bucket = (long) (labels.distTo(v) / delta);
+        if (bucketOf[v] != bucket) {
+            bucketOf[v] = bucket;
+            buckets.computeIfAbsent(bucket, b -> IntStream.builder()).add(v);
+        }
+    }
+
+    /**
+     * Returns the bucket width if it is positive.
+     *
+     * @param delta the bucket width.
+     * @return the bucket width.
+     * @throws IllegalArgumentException if the bucket width is not positive.
+     */
+    private static double requirePositive(double delta) {
+        if (!(delta > 0.0)) {
+            throw new IllegalArgumentException("Delta must be positive");
+        }
+        return delta;
+    }
+
+    /**
+     * Returns the average weight of the positive-weight edges in the graph, or 1 if there are none.
+     *
+     * @param graph the indexed graph.
+     * @return the average weight of the positive-weight edges in the graph.
+     */
+    private static double averageWeight(IndexedGraph<?> graph) {
+        double sum = 0.0;
+        int count = 0;
+        for (int e = 0; e < graph.numEdges(); e += 1) {
+            if (graph.weight(e) > 0.0) {
+                sum += graph.weight(e);
+                count += 1;
+            }
+        }
+        return count == 0 ? 1.0 : sum / count;
+    }
+
+    @Override
+    public List<V> solution(V goal) {
+        return labels.solution(goal);
+    }
+}
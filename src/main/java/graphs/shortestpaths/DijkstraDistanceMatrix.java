@@ -0,0 +1,88 @@
+package graphs.shortestpaths;
+
+import graphs.Graph;
+import graphs.IndexedGraph;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * One-to-many Dijkstra's algorithm implementation of the {@link DistanceMatrix} interface. Runs one search per source
+ * that stops as soon as every target has been settled, reusing the same search state for every source.
+ *
+ * @param <V> the type of vertices.
+ * @see DistanceMatrix
+ * @see BucketDistanceMatrix
+ */
+public class DijkstraDistanceMatrix<V> implements DistanceMatrix<V> {
+    private final double[][] distances;
+    private final int numTargets;
+
+    /**
+     * Constructs a new instance by executing Dijkstra's algorithm from each source. If the graph is an
+     * {@link IndexedGraph}, it is searched directly and vertices outside of it are treated as unreachable.
+     *
+     * @param graph   the input graph.
+     * @param sources the source vertices.
+     * @param targets the target vertices.
+     */
+    public DijkstraDistanceMatrix(Graph<V> graph, List<V> sources, List<V> targets) {
+        IndexedGraph<V> indexed = IndexedGraph.of(graph, sources);
+        distances = new double[sources.size()][targets.size()];
+        numTargets = targets.size();
+
+        // Linked lists of the target columns for each vertex, which may be shared by duplicate targets
+        int[] firstColumn = new int[indexed.size()];
+        int[] nextColumn = new int[targets.size()];
+        Arrays.fill(firstColumn, -1);
+        int numDistinct = 0;
+        for (int j = 0; j < targets.size(); j += 1) {
+            int t = indexed.index(targets.get(j));
+            if (t >= 0) {
+                if (firstColumn[t] < 0) {
+                    numDistinct += 1;
+                }
+                nextColumn[j] = firstColumn[t];
+                firstColumn[t] = j;
+            }
+        }
+
+        DijkstraSearch search = new DijkstraSearch(indexed);
+        for (int i = 0; i < sources.size(); i += 1) {
+            double[] row = distances[i];
+            Arrays.fill(row, Double.POSITIVE_INFINITY);
+            int s = indexed.index(sources.get(i));
+            if (s < 0) {
+                continue;
+            }
+            search.start(s);
+            int remaining = numDistinct;
+            while (remaining > 0) {
+                int v = search.settleNext();
+                if (v < 0) {
+                    break;
+                } else if (firstColumn[v] >= 0) {
+                    for (int j = firstColumn[v]; j >= 0; j = nextColumn[j]) {
+                        row[j] = search.distTo(v);
+                    }
+                    remaining -= 1;
+                }
+            }
+        }
+    }
+
+    @Override
+    public double distance(int source, int target) {
+        return distances[source][target];
+    }
+
+    @Override
+    public int numSources() {
+        return distances.length;
+    }
+
+    @Override
+    public int numTargets() {
+        return numTargets;
+    }
+}
@@ -0,0 +1,184 @@
+package graphs.shortestpaths;
+
+import graphs.IndexedGraph;
+
+/**
+ * Incremental Dijkstra's algorithm over an {@link IndexedGraph} whose state can be reused for many searches. Each call
+ * to {@link #settleNext()} settles one more vertex, so callers can stop as soon as they have what they need. Arrays are
+ * allocated once per graph and searches are distinguished by a version stamp, so starting a new search takes constant
+ * time instead of clearing every vertex. Edge weights must be non-negative.
+ *
+ * @see IndexedGraph
+ */
+class DijkstraSearch {
+    private final IndexedGraph<?> graph;
+    /**
+     * The distance to each vertex reached in the current search.
+     */
+    private final double[] distTo;
+    /**
+     * The search in which each vertex was last reached.
+     */
+    private final int[] reachedIn;
+    /**
+     * The position of each vertex in the heap, or -1 if it has been settled.
+     */
+    private final int[] position;
+    /**
+     * Binary heap of reached but unsettled vertices ordered by distance.
+     */
+    private final int[] heap;
+    private int size;
+    private int search;
+    private double lastDist;
+
+    /**
+     * Constructs a search over the indexed graph. No vertices are reached until a search is started.
+     *
+     * @param graph the indexed graph.
+     */
+    DijkstraSearch(IndexedGraph<?> graph) {
+        this.graph = graph;
+        this.distTo = new double[graph.size()];
+        this.reachedIn = new int[graph.size()];
+        this.position = new int[graph.size()];
+        this.heap = new int[graph.size()];
+    }
+
+    /**
+     * Discards the current search and starts a new search from the given vertex.
+     *
+     * @param source the start vertex index.
+     */
+    void start(int source) {
+        search += 1;
+        size = 0;
+        lastDist = 0.0;
+        reach(source, 0.0);
+    }
+
+    /**
+     * Settles the closest unsettled vertex and relaxes its outgoing edges.
+     *
+     * @return the settled vertex index, or -1 if every reachable vertex has been settled.
+     */
+    int settleNext() {
+        if (size == 0) {
+            return -1;
+        }
+        int from = heap[0];
+        size -= 1;
+        if (size > 0) {
+            heap[0] = heap[size];
+            position[heap[0]] = 0;
+            percolateDown(0);
+        }
+        position[from] = -1;
+        lastDist = distTo[from];
+        for (int e = graph.firstEdge(from); e < graph.lastEdge(from); e += 1) {
+            reach(graph.target(e), lastDist + graph.weight(e));
+        }
+        return from;
+    }
+
+    /**
+     * Returns the distance to the given vertex in the current search, or positive infinity if it has not been reached.
+     * The distance is final once the vertex has been settled.
+     *
+     * @param v the vertex index.
+     * @return the distance to the given vertex in the current search.
+     */
+    double distTo(int v) {
+        return reachedIn[v] == search ? distTo[v] : Double.POSITIVE_INFINITY;
+    }
+
+    /**
+     * Returns the distance to the most recently settled vertex. Every unsettled vertex is at least this far away.
+     *
+     * @return the distance to the most recently settled vertex.
+     */
+    double radius() {
+        return lastDist;
+    }
+
+    /**
+     * Returns true if every reachable vertex has been settled.
+     *
+     * @return true if every reachable vertex has been settled.
+     */
+    boolean isDone() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the number of reached but unsettled vertices.
+     *
+     * @return the number of reached but unsettled vertices.
+     */
+    int numFrontier() {
+        return size;
+    }
+
+    /**
+     * Returns the reached but unsettled vertex at the given position in arbitrary order.
+     *
+     * @param i the position between 0 and {@link #numFrontier()}.
+     * @return the reached but unsettled vertex at the given position.
+     */
+    int frontier(int i) {
+        return heap[i];
+    }
+
+    /**
+     * Updates the distance to the vertex if the new distance is shorter and it has not been settled.
+     *
+     * @param v       the vertex index.
+     * @param newDist the new distance to the vertex.
+     */
+    private void reach(int v, double newDist) {
+        if (reachedIn[v] != search) {
+            reachedIn[v] = search;
+            distTo[v] = newDist;
+            heap[size] = v;
+            position[v] = size;
+            size += 1;
+            percolateUp(size - 1);
+        } else if (position[v] >= 0 && newDist < distTo[v]) {
+            distTo[v] = newDist;
+            percolateUp(position[v]);
+        }
+    }
+
+    private void percolateUp(int i) {
+        int v = heap[i];
+        while (i > 0) {
+            int parent = (i - 1) / 2;
+            if (distTo[heap[parent]] <= distTo[v]) {
+                break;
+            }
+            heap[i] = heap[parent];
+            position[heap[i]] = i;
+            i = parent;
+        }
+        heap[i] = v;
+        position[v] = i;
+    }
+
+    private void percolateDown(int i) {
+        int v = heap[i];
+        while (2 * i + 1 < size) {
+            int child = 2 * i + 1;
+            if (child + 1 < size && distTo[heap[child + 1]] < distTo[heap[child]]) {
+                child += 1;
+            }
+            if (distTo[v] <= distTo[heap[child]]) {
+                break;
+            }
+            heap[i] = heap[child];
+            position[heap[i]] = i;
+            i = child;
+        }
+        heap[i] = v;
+        position[v] = i;
+    }
+}
@@ -2,8 +2,8 @@ package graphs.shortestpaths;
 
 import graphs.Edge;
 import graphs.Graph;
-import minpq.DoubleMapMinPQ;
 import minpq.MinPQ;
+import minpq.OptimizedHeapMinPQ;
 
 import java.util.*;
 
@@ -18,15 +18,28 @@ public class DijkstraSolver<V> implements ShortestPathSolver<V> {
     private final Map<V, Double> distTo;
 
     /**
-     * Constructs a new instance by executing Dijkstra's algorithm on the graph from the start.
+     * Constructs a new instance by executing Dijkstra's algorithm on the graph from the start using an
+     * {@link OptimizedHeapMinPQ} for the perimeter.
      *
      * @param graph the input graph.
      * @param start the start vertex.
      */
     public DijkstraSolver(Graph<V> graph, V start) {
+        this(graph, start, OptimizedHeapMinPQ::new);
+    }
+
+    /**
+     * Constructs a new instance by executing Dijkstra's algorithm on the graph from the start using the given
+     * {@link MinPQ} implementation for the perimeter.
+     *
+     * @param graph the input graph.
+     * @param start the start vertex.
+     * @param pq    the constructor for the {@link MinPQ} implementation.
+     */
+    public DijkstraSolver(Graph<V> graph, V start, MinPQ.Constructor<V> pq) {
         edgeTo = new HashMap<>();
         distTo = new HashMap<>();
-        MinPQ<V> perimeter = new DoubleMapMinPQ<>();
+        MinPQ<V> perimeter = pq.run();
         perimeter.add(start, 0.0);
         edgeTo.put(start, null);
         distTo.put(start, 0.0);
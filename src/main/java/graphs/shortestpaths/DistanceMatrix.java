@@ -0,0 +1,77 @@
+package graphs.shortestpaths;
+
+import graphs.Graph;
+import graphs.IndexedGraph;
+
+import java.util.List;
+
+/**
+ * Shortest path distances from each of a list of sources to each of a list of targets.
+ *
+ * @param <V> the type of vertices.
+ * @see Constructor
+ * @see DijkstraDistanceMatrix
+ * @see BucketDistanceMatrix
+ */
+public interface DistanceMatrix<V> {
+
+    /**
+     * Returns the shortest path distance from the given source to the given target, or positive infinity if the
+     * target is not reachable from the source.
+     *
+     * @param source the index of the source in the list of sources.
+     * @param target the index of the target in the list of targets.
+     * @return the shortest path distance from the given source to the given target.
+     */
+    double distance(int source, int target);
+
+    /**
+     * Returns the number of sources.
+     *
+     * @return the number of sources.
+     */
+    int numSources();
+
+    /**
+     * Returns the number of targets.
+     *
+     * @return the number of targets.
+     */
+    int numTargets();
+
+    /**
+     * Returns every distance in a new array indexed by source and then by target.
+     *
+     * @return every distance in a new array indexed by source and then by target.
+     */
+    default double[][] toArray() {
+        double[][] result = new double[numSources()][numTargets()];
+        for (int i = 0; i < result.length; i += 1) {
+            for (int j = 0; j < result[i].length; j += 1) {
+                result[i][j] = distance(i, j);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Constructor for {@link DistanceMatrix}.
+     *
+     * @param <V> the type of vertices.
+     * @see DistanceMatrix
+     */
+    @FunctionalInterface
+    interface Constructor<V> {
+        /**
+         * Functional interface for running the constructor. Given an implementation of {@link DistanceMatrix}, refer
+         * to its constructor as (for example) {@code DijkstraDistanceMatrix::new}. Passing an {@link IndexedGraph}
+         * allows it to be shared across many distance matrices.
+         *
+         * @param graph   the input graph.
+         * @param sources the source vertices.
+         * @param targets the target vertices.
+         * @return an instance of {@link DistanceMatrix}.
+         */
+        DistanceMatrix<V> run(Graph<V> graph, List<V> sources, List<V> targets);
+    }
+}
@@ -0,0 +1,27 @@
+package graphs.shortestpaths;
+
+import graphs.Graph;
+import minpq.LazyHeapMinPQ;
+
+/**
+ * Dijkstra's algorithm implementation of the {@link ShortestPathSolver} interface without decrease-key. Improved
+ * distances are added to a {@link LazyHeapMinPQ} as new entries, and outdated entries are discarded when removed.
+ *
+ * @param <V> the type of vertices.
+ * @see ShortestPathSolver
+ * @see DijkstraSolver
+ * @see LazyHeapMinPQ
+ */
+public class LazyDijkstraSolver<V> extends DijkstraSolver<V> {
+
+    /**
+     * Constructs a new instance by executing Dijkstra's algorithm on the graph from the start using a
+     * {@link LazyHeapMinPQ} for the perimeter.
+     *
+     * @param graph the input graph.
+     * @param start the start vertex.
+     */
+    public LazyDijkstraSolver(Graph<V> graph, V start) {
+        super(graph, start, LazyHeapMinPQ::new);
+    }
+}
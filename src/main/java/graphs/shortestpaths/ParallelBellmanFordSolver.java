@@ -0,0 +1,117 @@
+package graphs.shortestpaths;
+
+import graphs.Graph;
+import graphs.IndexedGraph;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.stream.IntStream;
+
+/**
+ * Parallel Bellman-Ford algorithm implementation of the {@link ShortestPathSolver} interface. Rather than relaxing
+ * every edge in each pass, each pass only relaxes the outgoing edges of the <b>frontier</b>: the vertices whose
+ * distances decreased in the previous pass. The algorithm stops as soon as a pass changes nothing. The frontier is
+ * partitioned across threads on a {@link ForkJoinPool} with atomic distance updates over an {@link IndexedGraph}, so
+ * each vertex's neighbors are only requested once. Negative edge weights are allowed, but not negative cycles.
+ *
+ * @param <V> the type of vertices.
+ * @see ShortestPathSolver
+ * @see BellmanFordSolver
+ */
+public class ParallelBellmanFordSolver<V> implements ShortestPathSolver<V> {
+    /**
+     * Minimum number of vertices in the frontier before its edges are relaxed in parallel.
+     */
+    private static final int PARALLEL_THRESHOLD = 256;
+    private final IndexedGraph<V> graph;
+    private final AtomicLabels<V> labels;
+    /**
+     * The last pass in which each vertex was added to the next frontier, so that it is only added once per pass.
+     */
+    private final AtomicIntegerArray addedInPass;
+
+    /**
+     * Constructs a new instance by executing parallel Bellman-Ford algorithm on the graph from the start using one
+     * thread per available processor.
+     *
+     * @param graph the input graph.
+     * @param start the start vertex.
+     * @throws IllegalArgumentException if a negative cycle is reachable from the start.
+     */
+    public ParallelBellmanFordSolver(Graph<V> graph, V start) {
+        this(graph, start, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Constructs a new instance by executing parallel Bellman-Ford algorithm on the graph from the start using the
+     * given number of threads.
+     *
+     * @param graph       the input graph.
+     * @param start       the start vertex.
+     * @param parallelism the number of threads.
+     * @throws IllegalArgumentException if the number of threads is not positive or if a negative cycle is reachable
+     *                                  from the start.
+     */
+    public ParallelBellmanFordSolver(Graph<V> graph, V start, int parallelism) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("Parallelism must be positive");
+        }
+        this.graph = new IndexedGraph<>(graph, start);
+        this.labels = new AtomicLabels<>(this.graph, 0);
+        this.addedInPass = new AtomicIntegerArray(this.graph.size());
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            int[] frontier = {0};
+            // Without negative cycles, every shortest path has fewer edges than there are vertices
+            for (int pass = 1; frontier.length > 0; pass += 1) {
+                if (pass > this.graph.size()) {
+                    throw new IllegalArgumentException("Negative cycle reachable from " + start);
+                }
+                frontier = relaxAll(pool, frontier, pass);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Relaxes the outgoing edges of each vertex in the frontier, in parallel if the frontier is large enough.
+     *
+     * @param pool     the pool for relaxing edges in parallel.
+     * @param frontier the vertices whose edges to relax.
+     * @param pass     the current pass number.
+     * @return the vertices whose distances decreased in this pass.
+     */
+    private int[] relaxAll(ForkJoinPool pool, int[] frontier, int pass) {
+        if (frontier.length < PARALLEL_THRESHOLD) {
+            return IntStream.of(frontier).flatMap(v -> relax(v, pass)).toArray();
+        }
+        // Parallel streams started from within a pool run on that pool instead of the common pool
+        return pool.submit(() -> IntStream.of(frontier).parallel().flatMap(v -> relax(v, pass)).toArray()).join();
+    }
+
+    /**
+     * Relaxes the outgoing edges of the vertex.
+     *
+     * @param from the vertex whose edges to relax.
+     * @param pass the current pass number.
+     * @return the vertices whose distances decreased and were not already added to the next frontier in this pass.
+     */
+    private IntStream relax(int from, int pass) {
+        IntStream.Builder improved = IntStream.builder();
+        double fromDist = labels.distTo(from);
+        for (int e = graph.firstEdge(from); e < graph.lastEdge(from); e += 1) {
+            int to = graph.target(e);
+            if (labels.relax(e, fromDist + graph.weight(e)) && addedInPass.getAndSet(to, pass) != pass) {
+                improved.add(to);
+            }
+        }
+        return improved.build();
+    }
+
+    @Override
+    public List<V> solution(V goal) {
+        return labels.solution(goal);
+    }
+}
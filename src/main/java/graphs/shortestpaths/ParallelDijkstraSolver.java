@@ -0,0 +1,145 @@
+package graphs.shortestpaths;
+
+import graphs.Edge;
+import graphs.Graph;
+import minpq.ConcurrentMinPQ;
+import minpq.MultiQueueMinPQ;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Parallel Dijkstra's algorithm implementation of the {@link ShortestPathSolver} interface. Several threads share a
+ * relaxed {@link ConcurrentMinPQ}, so a vertex may be removed before its distance is final. Such vertices are added
+ * again when a shorter distance is found, which makes this a label-correcting algorithm that still computes exact
+ * shortest paths. The graph must be safe to query from multiple threads.
+ *
+ * @param <V> the type of vertices.
+ * @see ShortestPathSolver
+ * @see DijkstraSolver
+ * @see MultiQueueMinPQ
+ */
+public class ParallelDijkstraSolver<V> implements ShortestPathSolver<V> {
+    private final Map<V, Edge<V>> edgeTo;
+    private final Map<V, Double> distTo;
+
+    /**
+     * Constructs a new instance by executing parallel Dijkstra's algorithm on the graph from the start using one thread
+     * per available processor.
+     *
+     * @param graph the input graph.
+     * @param start the start vertex.
+     */
+    public ParallelDijkstraSolver(Graph<V> graph, V start) {
+        this(graph, start, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Constructs a new instance by executing parallel Dijkstra's algorithm on the graph from the start using the given
+     * number of threads.
+     *
+     * @param graph       the input graph.
+     * @param start       the start vertex.
+     * @param parallelism the number of threads.
+     * @throws IllegalArgumentException if the number of threads is not positive.
+     */
+    public ParallelDijkstraSolver(Graph<V> graph, V start, int parallelism) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("Parallelism must be positive");
+        }
+        edgeTo = new ConcurrentHashMap<>();
+        distTo = new ConcurrentHashMap<>();
+        ConcurrentMinPQ<V> perimeter = new MultiQueueMinPQ<>(2 * parallelism);
+        perimeter.add(start, 0.0);
+        distTo.put(start, 0.0);
+        // Number of threads that may still add vertices to the perimeter
+        AtomicInteger active = new AtomicInteger();
+
+        List<Callable<Void>> workers = new ArrayList<>(parallelism);
+        for (int i = 0; i < parallelism; i += 1) {
+            workers.add(() -> {
+                relaxAll(graph, perimeter, active);
+                return null;
+            });
+        }
+        ExecutorService pool = Executors.newFixedThreadPool(parallelism);
+        try {
+            for (Future<Void> result : pool.invokeAll(workers)) {
+                result.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Repeatedly removes a vertex from the perimeter and relaxes its outgoing edges until the perimeter is empty and no
+     * other thread is relaxing edges.
+     *
+     * @param graph     the input graph.
+     * @param perimeter the shared perimeter.
+     * @param active    the number of threads that may still add vertices to the perimeter.
+     */
+    private void relaxAll(Graph<V> graph, ConcurrentMinPQ<V> perimeter, AtomicInteger active) {
+        while (true) {
+            // Announce before polling so that other threads cannot observe an empty perimeter in between
+            active.incrementAndGet();
+            V from = perimeter.poll();
+            if (from == null) {
+                active.decrementAndGet();
+                if (active.get() == 0 && perimeter.isEmpty()) {
+                    return;
+                }
+                Thread.onSpinWait();
+                continue;
+            }
+            double fromDist = distTo.get(from);
+            for (Edge<V> e : graph.neighbors(from)) {
+                double newDist = fromDist + e.weight;
+                if (relax(e, newDist)) {
+                    perimeter.addOrChangePriority(e.to, newDist);
+                }
+            }
+            active.decrementAndGet();
+        }
+    }
+
+    /**
+     * Atomically updates the distance to the edge's destination if the new distance is shorter.
+     *
+     * @param e       the edge to relax.
+     * @param newDist the distance to the destination through the edge.
+     * @return true if the distance to the destination was updated.
+     */
+    private boolean relax(Edge<V> e, double newDist) {
+        boolean[] updated = new boolean[1];
+        distTo.compute(e.to, (to, oldDist) -> {
+            if (oldDist == null || newDist < oldDist) {
+                edgeTo.put(to, e);
+                updated[0] = true;
+                return newDist;
+            }
+            return oldDist;
+        });
+        return updated[0];
+    }
+
+    @Override
+    public List<V> solution(V goal) {
+        List<V> path = new ArrayList<>();
+        V curr = goal;
+        path.add(curr);
+        while (edgeTo.get(curr) != null) {
+            curr = edgeTo.get(curr).from;
+            path.add(curr);
+        }
+        Collections.reverse(path);
+        return path;
+    }
+}
@@ -0,0 +1,125 @@
+package graphs.shortestpaths;
+
+import graphs.Graph;
+import graphs.IndexedGraph;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.stream.IntStream;
+
+/**
+ * Level-synchronous topological sorting implementation of the {@link ShortestPathSolver} interface for <b>directed
+ * acyclic graphs</b>. Using Kahn's algorithm, each level consists of the vertices whose incoming edges have all been
+ * relaxed, so the outgoing edges of every vertex in a level can be relaxed in parallel on a {@link ForkJoinPool}.
+ * Layered graphs, such as the pixel graphs used for seam finding, have wide levels that keep every thread busy. All
+ * traversals are iterative over an {@link IndexedGraph}, so the solver supports graphs with very long paths.
+ *
+ * @param <V> the type of vertices.
+ * @see ShortestPathSolver
+ * @see ToposortDAGSolver
+ */
+public class ParallelToposortDAGSolver<V> implements ShortestPathSolver<V> {
+    /**
+     * Minimum number of vertices in a level before its edges are relaxed in parallel.
+     */
+    private static final int PARALLEL_THRESHOLD = 256;
+    private final IndexedGraph<V> graph;
+    private final AtomicLabels<V> labels;
+    /**
+     * The number of incoming edges of each vertex that have not yet been relaxed.
+     */
+    private final AtomicIntegerArray remaining;
+
+    /**
+     * Constructs a new instance by executing the level-synchronous toposort-DAG-shortest-paths algorithm on the graph
+     * from the start using one thread per available processor.
+     *
+     * @param graph the input graph.
+     * @param start the start vertex.
+     * @throws IllegalArgumentException if a cycle is reachable from the start.
+     */
+    public ParallelToposortDAGSolver(Graph<V> graph, V start) {
+        this(graph, start, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Constructs a new instance by executing the level-synchronous toposort-DAG-shortest-paths algorithm on the graph
+     * from the start using the given number of threads.
+     *
+     * @param graph       the input graph.
+     * @param start       the start vertex.
+     * @param parallelism the number of threads.
+     * @throws IllegalArgumentException if the number of threads is not positive or if a cycle is reachable from the
+     *                                  start.
+     */
+    public ParallelToposortDAGSolver(Graph<V> graph, V start, int parallelism) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("Parallelism must be positive");
+        }
+        this.graph = new IndexedGraph<>(graph, start);
+        this.labels = new AtomicLabels<>(this.graph, 0);
+        int[] indegree = new int[this.graph.size()];
+        for (int e = 0; e < this.graph.numEdges(); e += 1) {
+            indegree[this.graph.target(e)] += 1;
+        }
+        this.remaining = new AtomicIntegerArray(indegree);
+        if (remaining.get(0) != 0) {
+            throw new IllegalArgumentException("Cycle reachable from " + start);
+        }
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            int[] level = {0};
+            int numSorted = 0;
+            while (level.length > 0) {
+                numSorted += level.length;
+                level = relaxAll(pool, level);
+            }
+            // Vertices on a cycle never run out of incoming edges, so they are never sorted
+            if (numSorted < this.graph.size()) {
+                throw new IllegalArgumentException("Cycle reachable from " + start);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Relaxes the outgoing edges of each vertex in the level, in parallel if the level is large enough.
+     *
+     * @param pool  the pool for relaxing edges in parallel.
+     * @param level the vertices whose edges to relax.
+     * @return the next level.
+     */
+    private int[] relaxAll(ForkJoinPool pool, int[] level) {
+        if (level.length < PARALLEL_THRESHOLD) {
+            return IntStream.of(level).flatMap(this::relax).toArray();
+        }
+        // Parallel streams started from within a pool run on that pool instead of the common pool
+        return pool.submit(() -> IntStream.of(level).parallel().flatMap(this::relax).toArray()).join();
+    }
+
+    /**
+     * Relaxes the outgoing edges of the vertex.
+     *
+     * @param from the vertex whose edges to relax.
+     * @return the neighbors whose incoming edges have now all been relaxed.
+     */
+    private IntStream relax(int from) {
+        IntStream.Builder ready = IntStream.builder();
+        double fromDist = labels.distTo(from);
+        for (int e = graph.firstEdge(from); e < graph.lastEdge(from); e += 1) {
+            labels.relax(e, fromDist + graph.weight(e));
+            int to = graph.target(e);
+            if (remaining.decrementAndGet(to) == 0) {
+                ready.add(to);
+            }
+        }
+        return ready.build();
+    }
+
+    @Override
+    public List<V> solution(V goal) {
+        return labels.solution(goal);
+    }
+}
@@ -7,9 +7,12 @@ import java.util.*;
 
 /**
  * Topological sorting implementation of the {@link ShortestPathSolver} interface for <b>directed acyclic graphs</b>.
+ * The depth-first search uses an explicit stack rather than recursion, so it supports graphs with very long paths,
+ * and each vertex's neighbors are only requested once.
  *
  * @param <V> the type of vertices.
  * @see ShortestPathSolver
+ * @see ParallelToposortDAGSolver
  */
 public class ToposortDAGSolver<V> implements ShortestPathSolver<V> {
     private final Map<V, Edge<V>> edgeTo;
@@ -24,79 +27,57 @@ public class ToposortDAGSolver<V> implements ShortestPathSolver<V> {
     public ToposortDAGSolver(Graph<V> graph, V start) {
         edgeTo = new HashMap<>();
         distTo = new HashMap<>();
-
-        // Initialize the distance to all vertices as positive infinity except for the start vertex
-        for (V vertex : getAllVertices(graph, start)) {
-            distTo.put(vertex, Double.POSITIVE_INFINITY);
-        }
         distTo.put(start, 0.0);
 
-        // Perform depth-first search to determine topological order in reverse postorder
-        List<V> reversePostOrder = new ArrayList<>();
-        Set<V> visited = new HashSet<>();
-        dfsPostOrder(graph, start, visited, reversePostOrder);
-        Collections.reverse(reversePostOrder);  // Reverse the list to get the correct topological order
-
-        // Relax each vertex in topological order
-        for (V vertex : reversePostOrder) {
-            for (Edge<V> edge : graph.neighbors(vertex)) {
+        // Relax each vertex in topological order, which is the reverse of DFS postorder
+        List<Visit<V>> postOrder = dfsPostOrder(graph, start);
+        for (int i = postOrder.size() - 1; i >= 0; i -= 1) {
+            for (Edge<V> edge : postOrder.get(i).edges) {
                 relax(edge);
             }
         }
     }
 
     /**
-     * Recursively adds nodes from the graph to the result in DFS postorder from the start vertex.
+     * Returns the vertices reachable from the start vertex in DFS postorder along with their outgoing edges.
      *
-     * @param graph   the input graph.
-     * @param start   the start vertex.
-     * @param visited the set of visited vertices.
-     * @param result  the destination for adding nodes.
+     * @param graph the input graph.
+     * @param start the start vertex.
+     * @return the reachable vertices in DFS postorder along with their outgoing edges.
      */
-    private void dfsPostOrder(Graph<V> graph, V start, Set<V> visited, List<V> result) {
-        // Mark the start vertex as visited
+    private static <V> List<Visit<V>> dfsPostOrder(Graph<V> graph, V start) {
+        List<Visit<V>> result = new ArrayList<>();
+        Set<V> visited = new HashSet<>();
+        Deque<Visit<V>> stack = new ArrayDeque<>();
         visited.add(start);
-
-        // Visit all unvisited neighbors recursively
-        for (Edge<V> edge : graph.neighbors(start)) {
-            V neighbor = edge.to;
-            if (!visited.contains(neighbor)) {
-                dfsPostOrder(graph, neighbor, visited, result);
-            }
-        }
-
-        // Add the current vertex to the result list after all its neighbors have been visited
-        result.add(start);
-    }
-
-    private Set<V> getAllVertices(Graph<V> graph, V start) {
-        Set<V> reachable = new HashSet<>();
-        Queue<V> queue = new LinkedList<>();
-        queue.add(start);
-
-        while (!queue.isEmpty()) {
-            V current = queue.poll();
-            if (!reachable.contains(current)) {
-                reachable.add(current);
-                for (Edge<V> edge : graph.neighbors(current)) {
-                    queue.add(edge.to);
+        stack.push(new Visit<>(graph.neighbors(start)));
+        while (!stack.isEmpty()) {
+            Visit<V> top = stack.peek();
+            if (top.next < top.edges.size()) {
+                // Descend into the next unvisited neighbor, resuming from the following edge when it finishes
+                V neighbor = top.edges.get(top.next).to;
+                top.next += 1;
+                if (visited.add(neighbor)) {
+                    stack.push(new Visit<>(graph.neighbors(neighbor)));
                 }
+            } else {
+                // Add the current vertex to the result after all its neighbors have been visited
+                result.add(stack.pop());
             }
         }
-
-        return reachable;
+        return result;
     }
 
-    // Edge relaxation method
+    /**
+     * Updates the distance to the edge's destination if the edge leads to a shorter path.
+     *
+     * @param edge the edge to relax.
+     */
     private void relax(Edge<V> edge) {
-        V from = edge.from;
-        V to = edge.to;
-        double weight = edge.weight;
-
-        // If a shorter path to the "to" vertex is found
-        if (distTo.get(from) + weight < distTo.get(to)) {
-            distTo.put(to, distTo.get(from) + weight);
-            edgeTo.put(to, edge);
+        double newDist = distTo.get(edge.from) + edge.weight;
+        if (newDist < distTo.getOrDefault(edge.to, Double.POSITIVE_INFINITY)) {
+            distTo.put(edge.to, newDist);
+            edgeTo.put(edge.to, edge);
         }
     }
 
@@ -112,4 +93,18 @@ public class ToposortDAGSolver<V> implements ShortestPathSolver<V> {
         Collections.reverse(path);
         return path;
     }
+
+    /**
+     * A vertex on the DFS stack, represented by its outgoing edges and the index of the next edge to explore.
+     *
+     * @param <V> the type of vertices.
+     */
+    private static class Visit<V> {
+        private final List<Edge<V>> edges;
+        private int next;
+
+        Visit(List<Edge<V>> edges) {
+            this.edges = edges;
+        }
+    }
 }
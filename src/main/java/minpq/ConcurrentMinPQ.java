@@ -0,0 +1,30 @@
+package minpq;
+
+/**
+ * Thread-safe {@link MinPQ} that may <b>relax</b> the ordering of {@link #removeMin()} in exchange for scalability.
+ * Removals return an element with a low priority value, but not necessarily the lowest one when other threads are
+ * concurrently updating this priority queue. Individual operations are atomic, but compound checks such as calling
+ * {@link #isEmpty()} before {@link #removeMin()} are not, so concurrent clients should prefer {@link #poll()}.
+ *
+ * @param <E> the type of elements in this priority queue.
+ * @see MinPQ
+ * @see MultiQueueMinPQ
+ */
+public interface ConcurrentMinPQ<E> extends MinPQ<E> {
+
+    /**
+     * Returns and removes an element with a low priority value, or null if this priority queue is empty.
+     *
+     * @return an element with a low priority value, or null if this priority queue is empty.
+     */
+    E poll();
+
+    /**
+     * Returns and removes an element with a low priority value.
+     *
+     * @return an element with a low priority value.
+     * @throws java.util.NoSuchElementException if this priority queue is empty.
+     */
+    @Override
+    E removeMin();
+}
@@ -1,6 +1,7 @@
 package minpq;
 
-import java.util.Comparator;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.PriorityQueue;
@@ -21,19 +22,21 @@ public class HeapMinPQ<E> implements MinPQ<E> {
      * Constructs an empty instance.
      */
     public HeapMinPQ() {
-        pq = new PriorityQueue<>(Comparator.comparingDouble(PriorityNode::getPriority));
+        pq = new PriorityQueue<>();
     }
 
     /**
-     * Constructs an instance containing all the given elements and their priority values.
+     * Constructs an instance containing all the given elements and their priority values. The {@link PriorityQueue}
+     * builds the heap bottom-up in linear time when given a collection.
      *
      * @param elementsAndPriorities each element and its corresponding priority.
      */
     public HeapMinPQ(Map<E, Double> elementsAndPriorities) {
-        pq = new PriorityQueue<>(elementsAndPriorities.size(), Comparator.comparingDouble(PriorityNode::getPriority));
+        List<PriorityNode<E>> nodes = new ArrayList<>(elementsAndPriorities.size());
         for (Map.Entry<E, Double> entry : elementsAndPriorities.entrySet()) {
-            add(entry.getKey(), entry.getValue());
+            nodes.add(new PriorityNode<>(entry.getKey(), entry.getValue()));
         }
+        pq = new PriorityQueue<>(nodes);
     }
 
     @Override
@@ -46,7 +49,8 @@ public class HeapMinPQ<E> implements MinPQ<E> {
 
     @Override
     public boolean contains(E element) {
-        return pq.contains(element);
+        // PriorityNode equality only considers the element
+        return pq.contains(new PriorityNode<>(element, 0));
     }
 
     @Override
@@ -81,7 +85,7 @@ public class HeapMinPQ<E> implements MinPQ<E> {
         if (!contains(element)) {
             throw new NoSuchElementException("PQ does not contain " + element);
         }
-        pq.remove(element);
+        pq.remove(new PriorityNode<>(element, priority));
         pq.add(new PriorityNode<>(element, priority));
     }
 
@@ -0,0 +1,195 @@
+package minpq;
+
+import java.util.*;
+
+/**
+ * Lazy-deletion binary heap implementation of the {@link MinPQ} interface. Rather than tracking the index of each
+ * element in the heap, {@link #changePriority(Object, double)} adds a new entry and leaves the old one in place. Stale
+ * entries are discarded when they reach the top of the heap.
+ *
+ * @param <E> the type of elements in this priority queue.
+ * @see MinPQ
+ */
+public class LazyHeapMinPQ<E> implements MinPQ<E> {
+    /**
+     * {@link List} of {@link PriorityNode} objects representing the heap of element-priority pairs, including stale
+     * pairs whose priority no longer matches the current priority of the element.
+     */
+    private final List<PriorityNode<E>> elements;
+    /**
+     * {@link Map} of each element to its current priority value.
+     */
+    private final Map<E, Double> elementToPriority;
+
+    /**
+     * Constructs an empty instance.
+     */
+    public LazyHeapMinPQ() {
+        elements = new ArrayList<>();
+        elementToPriority = new HashMap<>();
+        elements.add(null);
+    }
+
+    /**
+     * Constructs an instance containing all the given elements and their priority values.
+     *
+     * @param elementsAndPriorities each element and its corresponding priority.
+     */
+    public LazyHeapMinPQ(Map<E, Double> elementsAndPriorities) {
+        elements = new ArrayList<>(elementsAndPriorities.size() + 1);
+        elementToPriority = new HashMap<>(elementsAndPriorities);
+        elements.add(null);
+        rebuild();
+    }
+
+    @Override
+    public void add(E element, double priority) {
+        if (contains(element)) {
+            throw new IllegalArgumentException("Already contains " + element);
+        }
+        elementToPriority.put(element, priority);
+        push(element, priority);
+    }
+
+    @Override
+    public void addOrChangePriority(E element, double priority) {
+        Double oldPriority = elementToPriority.put(element, priority);
+        if (oldPriority == null || oldPriority != priority) {
+            push(element, priority);
+        }
+    }
+
+    @Override
+    public boolean contains(E element) {
+        return elementToPriority.containsKey(element);
+    }
+
+    @Override
+    public double getPriority(E element) {
+        if (!contains(element)) {
+            throw new NoSuchElementException("PQ does not contain " + element);
+        }
+        return elementToPriority.get(element);
+    }
+
+    @Override
+    public E peekMin() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("PQ is empty");
+        }
+        discardStale();
+        return elements.get(1).getElement();
+    }
+
+    @Override
+    public E removeMin() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("PQ is empty");
+        }
+        discardStale();
+        E minElement = pop().getElement();
+        elementToPriority.remove(minElement);
+        return minElement;
+    }
+
+    @Override
+    public void changePriority(E element, double priority) {
+        if (!contains(element)) {
+            throw new NoSuchElementException("PQ does not contain " + element);
+        }
+        addOrChangePriority(element, priority);
+    }
+
+    @Override
+    public int size() {
+        return elementToPriority.size();
+    }
+
+    /**
+     * Removes stale pairs from the top of the heap until the top pair is current. Requires a non-empty queue.
+     */
+    private void discardStale() {
+        while (isStale(elements.get(1))) {
+            pop();
+        }
+    }
+
+    /**
+     * Returns true if the given pair no longer represents an element in this priority queue.
+     *
+     * @param node the element-priority pair.
+     * @return true if the given pair no longer represents an element in this priority queue.
+     */
+    private boolean isStale(PriorityNode<E> node) {
+        Double priority = elementToPriority.get(node.getElement());
+        return priority == null || priority != node.getPriority();
+    }
+
+    /**
+     * Adds a new element-priority pair to the heap, first rebuilding the heap if stale pairs outnumber current ones.
+     *
+     * @param element  the element to add.
+     * @param priority the priority value for the element.
+     */
+    private void push(E element, double priority) {
+        if (elements.size() > 2 * size() + 16) {
+            rebuild();
+        }
+        elements.add(new PriorityNode<>(element, priority));
+        percolateUp(elements.size() - 1);
+    }
+
+    /**
+     * Removes and returns the pair at the top of the heap regardless of whether it is stale.
+     *
+     * @return the pair at the top of the heap.
+     */
+    private PriorityNode<E> pop() {
+        PriorityNode<E> min = elements.get(1);
+        PriorityNode<E> last = elements.remove(elements.size() - 1);
+        if (elements.size() > 1) {
+            elements.set(1, last);
+            percolateDown(1);
+        }
+        return min;
+    }
+
+    /**
+     * Replaces the heap with one current pair per element, building it bottom-up in linear time.
+     */
+    private void rebuild() {
+        elements.subList(1, elements.size()).clear();
+        for (Map.Entry<E, Double> entry : elementToPriority.entrySet()) {
+            elements.add(new PriorityNode<>(entry.getKey(), entry.getValue()));
+        }
+        for (int i = (elements.size() - 1) / 2; i >= 1; i -= 1) {
+            percolateDown(i);
+        }
+    }
+
+    private void percolateUp(int index) {
+        PriorityNode<E> node = elements.get(index);
+        while (index > 1 && node.getPriority() < elements.get(index / 2).getPriority()) {
+            elements.set(index, elements.get(index / 2));
+            index /= 2;
+        }
+        elements.set(index, node);
+    }
+
+    private void percolateDown(int index) {
+        int size = elements.size();
+        PriorityNode<E> node = elements.get(index);
+        while (2 * index < size) {
+            int child = 2 * index;
+            if (child + 1 < size && elements.get(child + 1).getPriority() < elements.get(child).getPriority()) {
+                child += 1;
+            }
+            if (elements.get(child).getPriority() >= node.getPriority()) {
+                break;
+            }
+            elements.set(index, elements.get(child));
+            index = child;
+        }
+        elements.set(index, node);
+    }
+}
@@ -13,6 +13,8 @@ import java.util.List;
  * @see UnsortedArrayMinPQ
  * @see HeapMinPQ
  * @see OptimizedHeapMinPQ
+ * @see LazyHeapMinPQ
+ * @see PairingHeapMinPQ
  */
 public interface MinPQ<E> {
 
@@ -88,6 +90,26 @@ public interface MinPQ<E> {
         return result;
     }
 
+    /**
+     * Returns up to the given number of lowest-priority elements without removing them.
+     *
+     * @param numElements the desired number of lowest-priority elements to return.
+     * @return a list containing up to the given number of lowest-priority elements.
+     */
+    default List<E> peekMin(int numElements) {
+        numElements = Math.min(numElements, size());
+        List<E> result = new ArrayList<>(numElements);
+        double[] priorities = new double[numElements];
+        for (int i = 0; i < numElements; i += 1) {
+            priorities[i] = getPriority(peekMin());
+            result.add(removeMin());
+        }
+        for (int i = 0; i < numElements; i += 1) {
+            add(result.get(i), priorities[i]);
+        }
+        return result;
+    }
+
     /**
      * Updates the given elements' associated priority value.
      *
@@ -112,4 +134,21 @@ public interface MinPQ<E> {
     default boolean isEmpty() {
         return size() == 0;
     }
+
+    /**
+     * Constructor for {@link MinPQ}.
+     *
+     * @param <E> the type of elements in this priority queue.
+     * @see MinPQ
+     */
+    @FunctionalInterface
+    interface Constructor<E> {
+        /**
+         * Functional interface for running the constructor. Given an implementation of {@link MinPQ}, refer to its
+         * constructor as (for example) {@code OptimizedHeapMinPQ::new}.
+         *
+         * @return an empty instance of {@link MinPQ}.
+         */
+        MinPQ<E> run();
+    }
 }
@@ -0,0 +1,269 @@
+package minpq;
+
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * MultiQueue implementation of the {@link ConcurrentMinPQ} interface. Elements are spread across several independently
+ * locked binary heaps. Each removal samples two heaps at random and removes from the one whose minimum is lower, so
+ * threads rarely contend on the same lock while removals stay close to the true minimum. Priority changes add a new
+ * entry to a random heap and outdated entries are discarded on removal, as in {@link LazyHeapMinPQ}.
+ *
+ * @param <E> the type of elements in this priority queue.
+ * @see ConcurrentMinPQ
+ * @see <a href="https://arxiv.org/abs/1411.1209">MultiQueues: Simpler, Faster, and Better Relaxed Concurrent Priority
+ * Queues</a>
+ */
+public class MultiQueueMinPQ<E> implements ConcurrentMinPQ<E> {
+    /**
+     * Number of heaps per available processor for the default constructor.
+     */
+    private static final int QUEUES_PER_THREAD = 2;
+    /**
+     * The independently locked heaps.
+     */
+    private final Stripe<E>[] stripes;
+    /**
+     * {@link Map} of each element to its current priority value.
+     */
+    private final Map<E, Double> elementToPriority;
+
+    /**
+     * Constructs an empty instance with two heaps per available processor.
+     */
+    public MultiQueueMinPQ() {
+        this(QUEUES_PER_THREAD * Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Constructs an empty instance with the given number of heaps. A single heap orders removals exactly.
+     *
+     * @param numQueues the number of heaps.
+     * @throws IllegalArgumentException if the number of heaps is not positive.
+     */
+    @SuppressWarnings("unchecked")
+    public MultiQueueMinPQ(int numQueues) {
+        if (numQueues <= 0) {
+            throw new IllegalArgumentException("Number of queues must be positive");
+        }
+        stripes = (Stripe<E>[]) new Stripe[numQueues];
+        for (int i = 0; i < numQueues; i += 1) {
+            stripes[i] = new Stripe<>();
+        }
+        elementToPriority = new ConcurrentHashMap<>();
+    }
+
+    @Override
+    public void add(E element, double priority) {
+        if (element == null || elementToPriority.putIfAbsent(element, priority) != null) {
+            throw new IllegalArgumentException("Already contains " + element);
+        }
+        push(element, priority);
+    }
+
+    @Override
+    public void addOrChangePriority(E element, double priority) {
+        Double oldPriority = elementToPriority.put(element, priority);
+        if (oldPriority == null || oldPriority != priority) {
+            push(element, priority);
+        }
+    }
+
+    @Override
+    public boolean contains(E element) {
+        return elementToPriority.containsKey(element);
+    }
+
+    @Override
+    public double getPriority(E element) {
+        Double priority = elementToPriority.get(element);
+        if (priority == null) {
+            throw new NoSuchElementException("PQ does not contain " + element);
+        }
+        return priority;
+    }
+
+    /**
+     * {@inheritDoc} Inspects every heap, so this is exact when there are no concurrent updates but is much slower than
+     * {@link #poll()}.
+     */
+    @Override
+    public E peekMin() {
+        PriorityNode<E> min = null;
+        for (Stripe<E> stripe : stripes) {
+            stripe.lock.lock();
+            try {
+                PriorityNode<E> top = stripe.peekCurrent(elementToPriority);
+                if (top != null && (min == null || top.getPriority() < min.getPriority())) {
+                    min = top;
+                }
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+        if (min == null) {
+            throw new NoSuchElementException("PQ is empty");
+        }
+        return min.getElement();
+    }
+
+    @Override
+    public E removeMin() {
+        E element = poll();
+        if (element == null) {
+            throw new NoSuchElementException("PQ is empty");
+        }
+        return element;
+    }
+
+    @Override
+    public E poll() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (!elementToPriority.isEmpty()) {
+            Stripe<E> stripe = stripes[random.nextInt(stripes.length)];
+            Stripe<E> other = stripes[random.nextInt(stripes.length)];
+            if (other.top < stripe.top || stripe.size == 0) {
+                stripe = other;
+            }
+            if (stripe.size == 0) {
+                // Both samples were empty, so fall back to any non-empty heap
+                stripe = anyNonEmpty();
+                if (stripe == null) {
+                    Thread.onSpinWait();
+                    continue;
+                }
+            }
+            if (!stripe.lock.tryLock()) {
+                continue;
+            }
+            try {
+                PriorityNode<E> node = stripe.poll();
+                if (node != null && elementToPriority.remove(node.getElement(), node.getPriority())) {
+                    return node.getElement();
+                }
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void changePriority(E element, double priority) {
+        Double oldPriority = elementToPriority.replace(element, priority);
+        if (oldPriority == null) {
+            throw new NoSuchElementException("PQ does not contain " + element);
+        } else if (oldPriority != priority) {
+            push(element, priority);
+        }
+    }
+
+    @Override
+    public int size() {
+        return elementToPriority.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return elementToPriority.isEmpty();
+    }
+
+    /**
+     * Adds a new element-priority pair to a randomly-chosen heap.
+     *
+     * @param element  the element to add.
+     * @param priority the priority value for the element.
+     */
+    private void push(E element, double priority) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (true) {
+            Stripe<E> stripe = stripes[random.nextInt(stripes.length)];
+            if (stripe.lock.tryLock()) {
+                try {
+                    stripe.add(new PriorityNode<>(element, priority));
+                    return;
+                } finally {
+                    stripe.lock.unlock();
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns any heap that appears to be non-empty, or null if all heaps appear empty.
+     *
+     * @return any heap that appears to be non-empty, or null if all heaps appear empty.
+     */
+    private Stripe<E> anyNonEmpty() {
+        for (Stripe<E> stripe : stripes) {
+            if (stripe.size != 0) {
+                return stripe;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * A binary heap guarded by its own lock. The minimum priority and size are published for lock-free sampling.
+     *
+     * @param <E> the type of elements in this heap.
+     */
+    private static class Stripe<E> {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final PriorityQueue<PriorityNode<E>> heap = new PriorityQueue<>();
+        /**
+         * The minimum priority value in the heap, or positive infinity if the heap is empty.
+         */
+        private volatile double top = Double.POSITIVE_INFINITY;
+        /**
+         * The number of pairs in the heap, including outdated pairs.
+         */
+        private volatile int size;
+
+        /**
+         * Adds the pair to the heap. Requires holding the lock.
+         *
+         * @param node the element-priority pair.
+         */
+        private void add(PriorityNode<E> node) {
+            heap.add(node);
+            top = heap.peek().getPriority();
+            size = heap.size();
+        }
+
+        /**
+         * Returns and removes the minimum pair, or null if the heap is empty. Requires holding the lock.
+         *
+         * @return the minimum pair, or null if the heap is empty.
+         */
+        private PriorityNode<E> poll() {
+            PriorityNode<E> node = heap.poll();
+            top = heap.isEmpty() ? Double.POSITIVE_INFINITY : heap.peek().getPriority();
+            size = heap.size();
+            return node;
+        }
+
+        /**
+         * Returns the minimum pair that is still current after discarding outdated pairs, or null if none remain.
+         * Requires holding the lock.
+         *
+         * @param elementToPriority the current priority value of each element.
+         * @return the minimum current pair, or null if none remain.
+         */
+        private PriorityNode<E> peekCurrent(Map<E, Double> elementToPriority) {
+            while (!heap.isEmpty()) {
+                PriorityNode<E> node = heap.peek();
+                Double priority = elementToPriority.get(node.getElement());
+                if (priority != null && priority == node.getPriority()) {
+                    return node;
+                }
+                poll();
+            }
+            return null;
+        }
+    }
+}
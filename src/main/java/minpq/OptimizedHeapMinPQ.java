@@ -28,16 +28,22 @@ public class OptimizedHeapMinPQ<E> implements MinPQ<E> {
     }
 
     /**
-     * Constructs an instance containing all the given elements and their priority values.
+     * Constructs an instance containing all the given elements and their priority values. Builds the heap bottom-up in
+     * linear time rather than adding each element in turn.
      *
      * @param elementsAndPriorities each element and its corresponding priority.
      */
     public OptimizedHeapMinPQ(Map<E, Double> elementsAndPriorities) {
-        elements = new ArrayList<>(elementsAndPriorities.size());
+        elements = new ArrayList<>(elementsAndPriorities.size() + 1);
         elementsToIndex = new HashMap<>(elementsAndPriorities.size());
+        elements.add(null);
 
         for (Map.Entry<E, Double> entry : elementsAndPriorities.entrySet()) {
-            add(entry.getKey(), entry.getValue());
+            elementsToIndex.put(entry.getKey(), elements.size());
+            elements.add(new PriorityNode<>(entry.getKey(), entry.getValue()));
+        }
+        for (int i = size() / 2; i >= 1; i -= 1) {
+            percolateDown(i);
         }
     }
 
@@ -95,6 +101,32 @@ public class OptimizedHeapMinPQ<E> implements MinPQ<E> {
         return minElement;
     }
 
+    /**
+     * {@inheritDoc} Explores the heap from the root, so only the returned elements and their children are visited.
+     */
+    @Override
+    public List<E> peekMin(int numElements) {
+        numElements = Math.min(numElements, size());
+        List<E> result = new ArrayList<>(numElements);
+        PriorityQueue<Integer> candidates = new PriorityQueue<>(
+                Comparator.comparingDouble(index -> elements.get(index).getPriority())
+        );
+        if (numElements > 0) {
+            candidates.add(1);
+        }
+        while (result.size() < numElements) {
+            int index = candidates.remove();
+            result.add(elements.get(index).getElement());
+            if (2 * index < elements.size()) {
+                candidates.add(2 * index);
+            }
+            if (2 * index + 1 < elements.size()) {
+                candidates.add(2 * index + 1);
+            }
+        }
+        return result;
+    }
+
     @Override
     public void changePriority(E element, double priority) {
         if (!contains(element)) {
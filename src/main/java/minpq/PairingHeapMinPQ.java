@@ -0,0 +1,230 @@
+package minpq;
+
+import java.util.*;
+
+/**
+ * Pairing heap implementation of the {@link MinPQ} interface. Each element keeps a handle to its node in the heap, so
+ * {@link #add(Object, double)} and priority decreases take constant time while {@link #removeMin()} takes amortized
+ * logarithmic time.
+ *
+ * @param <E> the type of elements in this priority queue.
+ * @see MinPQ
+ */
+public class PairingHeapMinPQ<E> implements MinPQ<E> {
+    /**
+     * {@link Map} of each element to its node in the heap.
+     */
+    private final Map<E, Node<E>> elementToNode;
+    /**
+     * Reusable buffer of subtrees for the two-pass merge in {@link #mergePairs(Node)}.
+     */
+    private final List<Node<E>> pairs;
+    /**
+     * The root of the heap, or null if the heap is empty.
+     */
+    private Node<E> root;
+
+    /**
+     * Constructs an empty instance.
+     */
+    public PairingHeapMinPQ() {
+        elementToNode = new HashMap<>();
+        pairs = new ArrayList<>();
+    }
+
+    /**
+     * Constructs an instance containing all the given elements and their priority values.
+     *
+     * @param elementsAndPriorities each element and its corresponding priority.
+     */
+    public PairingHeapMinPQ(Map<E, Double> elementsAndPriorities) {
+        elementToNode = new HashMap<>(elementsAndPriorities.size());
+        pairs = new ArrayList<>();
+        for (Map.Entry<E, Double> entry : elementsAndPriorities.entrySet()) {
+            add(entry.getKey(), entry.getValue());
+        }
+    }
+
+    @Override
+    public void add(E element, double priority) {
+        if (contains(element)) {
+            throw new IllegalArgumentException("Already contains " + element);
+        }
+        Node<E> node = new Node<>(element, priority);
+        elementToNode.put(element, node);
+        root = meld(root, node);
+    }
+
+    @Override
+    public boolean contains(E element) {
+        return elementToNode.containsKey(element);
+    }
+
+    @Override
+    public double getPriority(E element) {
+        if (!contains(element)) {
+            throw new NoSuchElementException("PQ does not contain " + element);
+        }
+        return elementToNode.get(element).priority;
+    }
+
+    @Override
+    public E peekMin() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("PQ is empty");
+        }
+        return root.element;
+    }
+
+    @Override
+    public E removeMin() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("PQ is empty");
+        }
+        Node<E> min = root;
+        root = mergePairs(min.child);
+        if (root != null) {
+            root.prev = null;
+        }
+        elementToNode.remove(min.element);
+        return min.element;
+    }
+
+    @Override
+    public void changePriority(E element, double priority) {
+        Node<E> node = elementToNode.get(element);
+        if (node == null) {
+            throw new NoSuchElementException("PQ does not contain " + element);
+        }
+        if (priority < node.priority) {
+            // Decrease-key: the subtree rooted at node remains heap-ordered
+            node.priority = priority;
+            if (node != root) {
+                cut(node);
+                root = meld(root, node);
+            }
+        } else if (priority > node.priority) {
+            // Increase-key: detach the children, which may now be smaller than node
+            node.priority = priority;
+            Node<E> children = mergePairs(node.child);
+            node.child = null;
+            if (node == root) {
+                root = null;
+            } else {
+                cut(node);
+            }
+            if (children != null) {
+                children.prev = null;
+                root = meld(root, children);
+            }
+            root = meld(root, node);
+        }
+    }
+
+    @Override
+    public int size() {
+        return elementToNode.size();
+    }
+
+    /**
+     * Removes the non-root node and its subtree from its parent's list of children.
+     *
+     * @param node the node to detach.
+     */
+    private void cut(Node<E> node) {
+        if (node.prev.child == node) {
+            node.prev.child = node.next;
+        } else {
+            node.prev.next = node.next;
+        }
+        if (node.next != null) {
+            node.next.prev = node.prev;
+        }
+        node.prev = null;
+        node.next = null;
+    }
+
+    /**
+     * Returns the root of the heap formed by linking the two heap roots, either of which may be null.
+     *
+     * @param a the root of the first heap.
+     * @param b the root of the second heap.
+     * @return the root of the combined heap.
+     */
+    private Node<E> meld(Node<E> a, Node<E> b) {
+        if (a == null) {
+            return b;
+        } else if (b == null) {
+            return a;
+        } else if (b.priority < a.priority) {
+            Node<E> temp = a;
+            a = b;
+            b = temp;
+        }
+        // Make b the leftmost child of a
+        b.prev = a;
+        b.next = a.child;
+        if (a.child != null) {
+            a.child.prev = b;
+        }
+        a.child = b;
+        a.next = null;
+        return a;
+    }
+
+    /**
+     * Returns the root of the heap formed by merging the given list of siblings in two passes: first melding
+     * left-to-right pairs, then melding the results from right to left.
+     *
+     * @param first the leftmost sibling, or null.
+     * @return the root of the merged heap, or null if there are no siblings.
+     */
+    private Node<E> mergePairs(Node<E> first) {
+        Node<E> curr = first;
+        while (curr != null) {
+            Node<E> a = curr;
+            Node<E> b = a.next;
+            curr = b == null ? null : b.next;
+            a.prev = null;
+            a.next = null;
+            if (b != null) {
+                b.prev = null;
+                b.next = null;
+            }
+            pairs.add(meld(a, b));
+        }
+        Node<E> result = null;
+        for (int i = pairs.size() - 1; i >= 0; i -= 1) {
+            result = meld(pairs.get(i), result);
+        }
+        pairs.clear();
+        return result;
+    }
+
+    /**
+     * A node in the pairing heap stored in leftmost-child, right-sibling form.
+     *
+     * @param <E> the type of element represented by this node.
+     */
+    private static class Node<E> {
+        private final E element;
+        private double priority;
+        /**
+         * The leftmost child of this node.
+         */
+        private Node<E> child;
+        /**
+         * The right sibling of this node.
+         */
+        private Node<E> next;
+        /**
+         * The left sibling of this node, or its parent if this node is the leftmost child.
+         */
+        private Node<E> prev;
+
+        Node(E element, double priority) {
+            this.element = element;
+            this.priority = priority;
+        }
+    }
+}
@@ -64,6 +64,10 @@ public class AdjacencyListSeamFinder implements SeamFinder {
          * The {@link Picture} for {@link #neighbors(Node)}.
          */
         private final EnergyFunction f;
+        /**
+         * The row-major energy of each pixel in the {@link Picture}.
+         */
+        private final double[] energies;
         /**
          * Source {@link Node} for the adjacency list graph.
          */
@@ -73,7 +77,7 @@ public class AdjacencyListSeamFinder implements SeamFinder {
                 List<Edge<Node>> result = new ArrayList<>(picture.height());
                 for (int j = 0; j < picture.height(); j += 1) {
                     Pixel to = pixels[0][j];
-                    result.add(new Edge<>(this, to, f.apply(picture, 0, j)));
+                    result.add(new Edge<>(this, to, energies[j * picture.width()]));
                 }
                 return result;
             }
@@ -96,6 +100,8 @@ public class AdjacencyListSeamFinder implements SeamFinder {
          */
         private PixelGraph(Picture picture, EnergyFunction f) {
             this.pixels = new Pixel[picture.width()][picture.height()];
+            this.energies = new double[picture.width() * picture.height()];
+            f.applyAll(picture, energies);
             // Starting from the rightmost column, each pixel has only a single edge to the sink (with 0 weight).
             for (int y = 0; y < picture.height(); y += 1) {
                 Pixel from = new Pixel(picture.width() - 1, y);
@@ -113,7 +119,7 @@ public class AdjacencyListSeamFinder implements SeamFinder {
                         // Only if the neighbor is in the bounds of the picture.
                         if (0 <= z && z < picture.height()) {
                             Pixel to = pixels[x + 1][z];
-                            from.neighbors.add(new Edge<>(from, to, f.apply(picture, x + 1, z)));
+                            from.neighbors.add(new Edge<>(from, to, energies[z * picture.width() + x + 1]));
                         }
                     }
                 }
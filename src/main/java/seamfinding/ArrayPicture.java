@@ -0,0 +1,310 @@
+package seamfinding;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A {@link Picture} backed by a row-major {@code int[]} of pixels rather than a {@link BufferedImage}, so that each
+ * access is an array read instead of a per-pixel color model conversion. The {@link #transposed()} view is another
+ * {@code ArrayPicture} backed by a column-major copy of the pixels that is created on first use and kept in sync by
+ * {@link #set(int, int, int)}, so accesses in either orientation read consecutive memory. Seams can be removed in
+ * place by shifting pixels within the same arrays, which shrinks the picture without reallocating it.
+ *
+ * @see Picture
+ */
+public final class ArrayPicture extends Picture {
+    /**
+     * Bits set in every pixel so that colors match those of an opaque {@link BufferedImage#TYPE_INT_RGB} image.
+     */
+    private static final int OPAQUE = 0xFF000000;
+    /**
+     * Side length of the square tiles copied at a time when transposing.
+     */
+    private static final int BLOCK_SIZE = 32;
+    private int width;
+    private int height;
+    /**
+     * The distance in the pixel array between the start of one row and the next, which stays the same as seams are
+     * removed.
+     */
+    private final int stride;
+    private final int[] pixels;
+    /**
+     * The transposed view sharing the same pixels in column-major order, or null if not yet created.
+     */
+    private ArrayPicture transposed;
+
+    /**
+     * Constructs a picture by copying the pixels of the given image.
+     *
+     * @param image the input image.
+     */
+    public ArrayPicture(BufferedImage image) {
+        this(image.getWidth(), image.getHeight(), image.getWidth(),
+                image.getRGB(0, 0, image.getWidth(), image.getHeight(), null, 0, image.getWidth()), null);
+    }
+
+    /**
+     * Constructs a picture by copying the pixels of the given picture.
+     *
+     * @param picture the input picture.
+     */
+    public ArrayPicture(Picture picture) {
+        this(picture.width(), picture.height(), picture.width(), new int[picture.width() * picture.height()], null);
+        for (int y = 0; y < height; y += 1) {
+            for (int x = 0; x < width; x += 1) {
+                pixels[y * stride + x] = picture.get(x, y);
+            }
+        }
+    }
+
+    /**
+     * Constructs a black picture with the given width and height dimensions.
+     *
+     * @param width  the horizontal dimension for the picture.
+     * @param height the vertical dimension for the picture.
+     */
+    public ArrayPicture(int width, int height) {
+        this(width, height, width, blank(width, height), null);
+    }
+
+    /**
+     * Constructs a picture from the given file.
+     *
+     * @param file the input file.
+     * @throws IOException if an error occurs during reading.
+     */
+    public ArrayPicture(File file) throws IOException {
+        this(ImageIO.read(file));
+    }
+
+    /**
+     * Constructs a picture over the given pixels.
+     *
+     * @param width      the horizontal dimension for the picture.
+     * @param height     the vertical dimension for the picture.
+     * @param stride     the distance in the pixel array between the start of one row and the next.
+     * @param pixels     the row-major pixels.
+     * @param transposed the transposed view of the same pixels, or null if not yet created.
+     */
+    private ArrayPicture(int width, int height, int stride, int[] pixels, ArrayPicture transposed) {
+        this.width = width;
+        this.height = height;
+        this.stride = stride;
+        this.pixels = pixels;
+        this.transposed = transposed;
+    }
+
+    /**
+     * Returns a new array of opaque black pixels for a picture with the given dimensions.
+     *
+     * @param width  the horizontal dimension for the picture.
+     * @param height the vertical dimension for the picture.
+     * @return a new array of opaque black pixels.
+     * @throws IllegalArgumentException if either dimension is not positive.
+     */
+    private static int[] blank(int width, int height) {
+        if (width <= 0 || height <= 0) {
+            throw new IllegalArgumentException("Dimensions must be positive");
+        }
+        int[] result = new int[width * height];
+        Arrays.fill(result, OPAQUE);
+        return result;
+    }
+
+    @Override
+    public int get(int x, int y) {
+        return pixels[index(x, y)];
+    }
+
+    @Override
+    public void set(int x, int y, int rgb) {
+        rgb |= OPAQUE;
+        pixels[index(x, y)] = rgb;
+        if (transposed != null) {
+            transposed.pixels[x * transposed.stride + y] = rgb;
+        }
+    }
+
+    @Override
+    public int width() {
+        return width;
+    }
+
+    @Override
+    public int height() {
+        return height;
+    }
+
+    /**
+     * Returns the row-major array of pixels backing this picture, where pixel (x, y) is at index
+     * {@code y * stride() + x}. Writing to the array directly does not update the {@link #transposed()} view.
+     *
+     * @return the row-major array of pixels backing this picture.
+     */
+    public int[] pixels() {
+        return pixels;
+    }
+
+    /**
+     * Returns the distance in the {@link #pixels()} array between the start of one row and the next.
+     *
+     * @return the distance in the pixel array between the start of one row and the next.
+     */
+    public int stride() {
+        return stride;
+    }
+
+    /**
+     * Removes the horizontal seam in place by shifting the pixels below it in each column up by one row.
+     *
+     * @param seam the vertical pixel index to remove from each column.
+     * @throws IllegalArgumentException if the seam is not a valid horizontal seam or the picture has only one row.
+     */
+    public void removeHorizontal(List<Integer> seam) {
+        int[] indices = check(seam, width, height);
+        shiftColumns(indices);
+        if (transposed != null) {
+            transposed.shiftRows(indices);
+        }
+    }
+
+    /**
+     * Removes the vertical seam in place by shifting the pixels right of it in each row left by one column.
+     *
+     * @param seam the horizontal pixel index to remove from each row.
+     * @throws IllegalArgumentException if the seam is not a valid vertical seam or the picture has only one column.
+     */
+    public void removeVertical(List<Integer> seam) {
+        int[] indices = check(seam, height, width);
+        shiftRows(indices);
+        if (transposed != null) {
+            transposed.shiftColumns(indices);
+        }
+    }
+
+    /**
+     * Returns the seam as an array after checking that it crosses every line with one pixel in bounds.
+     *
+     * @param seam   the seam to remove.
+     * @param length the number of lines crossed by the seam.
+     * @param bound  the number of pixels in each line.
+     * @return the seam as an array.
+     * @throws IllegalArgumentException if the seam is not valid or each line has only one pixel.
+     */
+    private static int[] check(List<Integer> seam, int length, int bound) {
+        if (bound <= 1) {
+            throw new IllegalArgumentException("Picture is too small to remove a seam");
+        } else if (seam.size() != length) {
+            throw new IllegalArgumentException("Seam length does not match picture");
+        }
+        int[] result = new int[length];
+        for (int i = 0; i < length; i += 1) {
+            result[i] = seam.get(i);
+            if (result[i] < 0 || result[i] >= bound) {
+                throw new IllegalArgumentException("Seam value out of bounds at index " + i);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Removes one pixel from each row by copying the rest of the row over it.
+     *
+     * @param seam the x-index to remove from each row.
+     */
+    private void shiftRows(int[] seam) {
+        for (int y = 0; y < height; y += 1) {
+            int x = seam[y];
+            System.arraycopy(pixels, y * stride + x + 1, pixels, y * stride + x, width - 1 - x);
+        }
+        width -= 1;
+    }
+
+    /**
+     * Removes one pixel from each column by moving every pixel below it up by one row. Rows are visited in order so
+     * that both the reads and the writes scan memory sequentially.
+     *
+     * @param seam the y-index to remove from each column.
+     */
+    private void shiftColumns(int[] seam) {
+        int top = height;
+        for (int y : seam) {
+            top = Math.min(top, y);
+        }
+        for (int y = top; y < height - 1; y += 1) {
+            int row = y * stride;
+            for (int x = 0; x < width; x += 1) {
+                if (y >= seam[x]) {
+                    pixels[row + x] = pixels[row + stride + x];
+                }
+            }
+        }
+        height -= 1;
+    }
+
+    /**
+     * Returns a new {@link BufferedImage#TYPE_INT_RGB} image with the same pixels as this picture, copying each row in
+     * bulk.
+     *
+     * @return a new image with the same pixels as this picture.
+     */
+    public BufferedImage toBufferedImage() {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        int[] data = ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+        for (int y = 0; y < height; y += 1) {
+            System.arraycopy(pixels, y * stride, data, y * width, width);
+        }
+        return image;
+    }
+
+    @Override
+    public void save(File file) throws IOException {
+        write(toBufferedImage(), file);
+    }
+
+    /**
+     * Returns a transposed view of this image where x and y accesses are reversed. The view is backed by a
+     * column-major copy of the pixels that is created on the first call.
+     *
+     * @return a transposed view of this image where x and y accesses are reversed.
+     */
+    @Override
+    public ArrayPicture transposed() {
+        if (transposed == null) {
+            int[] columns = new int[width * height];
+            // Copy square tiles so that both the reads and the writes stay within a few cache lines
+            for (int y0 = 0; y0 < height; y0 += BLOCK_SIZE) {
+                int y1 = Math.min(y0 + BLOCK_SIZE, height);
+                for (int x0 = 0; x0 < width; x0 += BLOCK_SIZE) {
+                    int x1 = Math.min(x0 + BLOCK_SIZE, width);
+                    for (int y = y0; y < y1; y += 1) {
+                        for (int x = x0; x < x1; x += 1) {
+                            columns[x * height + y] = pixels[y * stride + x];
+                        }
+                    }
+                }
+            }
+            transposed = new ArrayPicture(height, width, height, columns, this);
+        }
+        return transposed;
+    }
+
+    /**
+     * Returns the index of pixel (x, y) in the pixel array.
+     *
+     * @param x the x-index into the picture.
+     * @param y the y-index into the picture.
+     * @return the index of pixel (x, y) in the pixel array.
+     * @throws IndexOutOfBoundsException if (x, y) is outside of the picture.
+     */
+    private int index(int x, int y) {
+        return Objects.checkIndex(y, height) * stride + Objects.checkIndex(x, width);
+    }
+}
@@ -0,0 +1,261 @@
+package seamfinding;
+
+import seamfinding.energy.EnergyFunction;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+/**
+ * Banded dynamic programming shared by the {@link ParallelDynamicProgrammingSeamFinder}, which describes how bands of
+ * rows fill the table of minimum seam costs a tile of columns at a time, and the {@link ForwardEnergySeamFinder}.
+ * Subclasses only define the {@link Transitions}: the cost of a cell is its energy plus the minimum cost of its three
+ * predecessors, each plus the cost of stepping from it.
+ *
+ * @see ParallelDynamicProgrammingSeamFinder
+ * @see ForwardEnergySeamFinder
+ */
+abstract class BandedSeamFinder implements SeamFinder {
+    /**
+     * Default minimum number of rows in each band so that the bordering rows are only a small fraction of the work.
+     */
+    static final int MIN_BAND_HEIGHT = 256;
+    /**
+     * Number of columns filled by each band between waits for the other bands.
+     */
+    private static final int TILE_WIDTH = 16;
+    private final int parallelism;
+    private final int minBandHeight;
+    /**
+     * The pool for filling bands in parallel, created on first use and shared by every later seam. Its idle worker
+     * threads are daemons that exit on their own, so the pool is never shut down.
+     */
+    private ForkJoinPool pool;
+
+    /**
+     * Constructs a new instance using the given number of threads and minimum number of rows in each band.
+     *
+     * @param parallelism   the number of threads.
+     * @param minBandHeight the minimum number of rows in each band.
+     * @throws IllegalArgumentException if the number of threads or the minimum band height is not positive.
+     */
+    BandedSeamFinder(int parallelism, int minBandHeight) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("Parallelism must be positive");
+        } else if (minBandHeight <= 0) {
+            throw new IllegalArgumentException("Band height must be positive");
+        }
+        this.parallelism = parallelism;
+        this.minBandHeight = minBandHeight;
+    }
+
+    /**
+     * Returns the costs of stepping into each pixel of the picture, computing anything they need by bands of rows.
+     *
+     * @param picture the input picture.
+     * @param bands   the bands of rows, which run their actions in parallel if there is more than one band.
+     * @return the costs of stepping into each pixel of the picture.
+     */
+    abstract Transitions transitions(Picture picture, Bands bands);
+
+    @Override
+    public List<Integer> findHorizontal(Picture picture, EnergyFunction f) {
+        int width = picture.width();
+        int height = picture.height();
+        int numBands = Math.min(parallelism, Math.max(1, height / minBandHeight));
+        Bands bands = new Bands(numBands > 1 ? pool() : null, numBands, height);
+        // Column-major row of the best predecessor of each pixel in the previous column
+        int[] edgeTo = new int[width * height];
+        // Minimum seam costs of the last column of the previous tile, and of the current tile
+        double[] costs = new double[height];
+        double[] next = new double[height];
+
+        // Row-major energy of each pixel, computed at once
+        double[] energies = new double[width * height];
+        f.applyAll(picture, energies);
+
+        Transitions transitions = transitions(picture, bands);
+        for (int y = 0; y < height; y += 1) {
+            costs[y] = energies[y * width] + transitions.straight(0, y);
+        }
+        for (int start = 1; start < width; start += TILE_WIDTH) {
+            int tileStart = start;
+            int tileEnd = Math.min(start + TILE_WIDTH, width);
+            double[] previous = costs;
+            double[] current = next;
+            bands.forEach((bandStart, bandEnd) -> fillTile(transitions, energies, width, edgeTo, previous, current,
+                    height, bandStart, bandEnd, tileStart, tileEnd));
+            next = costs;
+            costs = current;
+        }
+
+        // Trace back from the minimum cost in the rightmost column
+        int y = 0;
+        for (int i = 1; i < height; i += 1) {
+            if (costs[i] < costs[y]) {
+                y = i;
+            }
+        }
+        Integer[] seam = new Integer[width];
+        for (int x = width - 1; x > 0; x -= 1) {
+            seam[x] = y;
+            y = edgeTo[x * height + y];
+        }
+        seam[0] = y;
+        return new ArrayList<>(List.of(seam));
+    }
+
+    /**
+     * Returns the pool for filling bands in parallel, creating it on first use.
+     *
+     * @return the pool for filling bands in parallel.
+     */
+    private synchronized ForkJoinPool pool() {
+        if (pool == null) {
+            pool = new ForkJoinPool(parallelism);
+        }
+        return pool;
+    }
+
+    /**
+     * Fills the minimum seam costs and predecessors of the band's rows in the columns of the tile.
+     *
+     * @param transitions the costs of stepping into each pixel.
+     * @param energies    the row-major energy of each pixel.
+     * @param width       the width of the picture.
+     * @param edgeTo      the column-major row of the best predecessor of each pixel.
+     * @param previous    the minimum seam costs of the column before the tile.
+     * @param current     the destination for the minimum seam costs of the last column of the tile.
+     * @param height      the height of the picture.
+     * @param bandStart   the first row of the band.
+     * @param bandEnd     the row after the last row of the band.
+     * @param tileStart   the first column of the tile.
+     * @param tileEnd     the column after the last column of the tile.
+     */
+    private static void fillTile(Transitions transitions, double[] energies, int width, int[] edgeTo,
+                                 double[] previous, double[] current, int height, int bandStart, int bandEnd,
+                                 int tileStart, int tileEnd) {
+        // Scratch columns indexed from the first bordering row of the column before the tile
+        int offset = Math.max(0, bandStart - (tileEnd - tileStart));
+        double[] last = new double[Math.min(height, bandEnd + (tileEnd - tileStart)) - offset];
+        double[] costs = new double[last.length];
+        System.arraycopy(previous, offset, last, 0, last.length);
+        for (int x = tileStart; x < tileEnd; x += 1) {
+            // Later columns need one fewer bordering row on each side
+            int border = tileEnd - x - 1;
+            int start = Math.max(0, bandStart - border);
+            int end = Math.min(height, bandEnd + border);
+            int column = x * height;
+            for (int y = start; y < end; y += 1) {
+                int i = y - offset;
+                double straight = transitions.straight(x, y);
+                // Rows beyond the edges of the picture are never the best predecessor
+                double up = y > 0 ? last[i - 1] + straight + transitions.up(x, y) : Double.POSITIVE_INFINITY;
+                double down = y < height - 1 ? last[i + 1] + straight + transitions.down(x, y)
+                        : Double.POSITIVE_INFINITY;
+                // Conditional selects rather than branches, which are unpredictable on noisy pictures
+                double min = last[i] + straight;
+                int best = up < min ? y - 1 : y;
+                min = Math.min(min, up);
+                best = down < min ? y + 1 : best;
+                min = Math.min(min, down);
+                costs[i] = energies[y * width + x] + min;
+                if (y >= bandStart && y < bandEnd) {
+                    edgeTo[column + y] = best;
+                }
+            }
+            double[] temp = last;
+            last = costs;
+            costs = temp;
+        }
+        System.arraycopy(last, bandStart - offset, current, bandStart, bandEnd - bandStart);
+    }
+
+    /**
+     * Costs of stepping into each pixel from each of its three predecessors in the previous column, in addition to the
+     * energy of the pixel.
+     */
+    interface Transitions {
+        /**
+         * Returns the cost of stepping into pixel (x, y) from any predecessor, including the pixel in the same row.
+         * For the first column, this is the cost of starting the seam at the pixel.
+         *
+         * @param x the x-index into the picture.
+         * @param y the y-index into the picture.
+         * @return the cost of stepping into pixel (x, y) from any predecessor.
+         */
+        double straight(int x, int y);
+
+        /**
+         * Returns the additional cost of stepping into pixel (x, y) from the pixel in the row above.
+         *
+         * @param x the x-index into the picture.
+         * @param y the y-index into the picture.
+         * @return the additional cost of stepping into pixel (x, y) from the pixel in the row above.
+         */
+        double up(int x, int y);
+
+        /**
+         * Returns the additional cost of stepping into pixel (x, y) from the pixel in the row below.
+         *
+         * @param x the x-index into the picture.
+         * @param y the y-index into the picture.
+         * @return the additional cost of stepping into pixel (x, y) from the pixel in the row below.
+         */
+        double down(int x, int y);
+    }
+
+    /**
+     * Action on a contiguous range of rows.
+     */
+    @FunctionalInterface
+    interface RowAction {
+        /**
+         * Runs the action on the rows from start to end.
+         *
+         * @param start the first row.
+         * @param end   the row after the last row.
+         */
+        void run(int start, int end);
+    }
+
+    /**
+     * The bands of rows of a picture, each of which runs actions on its rows in parallel with the other bands.
+     */
+    static final class Bands {
+        private final ForkJoinPool pool;
+        private final int numBands;
+        private final int height;
+
+        /**
+         * Constructs the given number of bands splitting the rows of a picture as evenly as possible.
+         *
+         * @param pool     the pool for running bands in parallel, or null to run them sequentially.
+         * @param numBands the number of bands.
+         * @param height   the number of rows.
+         */
+        Bands(ForkJoinPool pool, int numBands, int height) {
+            this.pool = pool;
+            this.numBands = numBands;
+            this.height = height;
+        }
+
+        /**
+         * Runs the action on the rows of each band, returning after every band has finished.
+         *
+         * @param action the action to run on the rows of each band.
+         */
+        void forEach(RowAction action) {
+            IntConsumer band = i -> action.run((int) ((long) i * height / numBands),
+                    (int) ((long) (i + 1) * height / numBands));
+            if (pool == null) {
+                IntStream.range(0, numBands).forEach(band);
+            } else {
+                // Parallel streams started from within a pool run on that pool instead of the common pool
+                pool.submit(() -> IntStream.range(0, numBands).parallel().forEach(band)).join();
+            }
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package seamfinding;
+
+import seamfinding.energy.EnergyFunction;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Table of the minimum cost of a horizontal seam from the left edge of a {@link Picture} to each pixel, kept up to date
+ * as seams are removed so that many seams can be removed without refilling the whole table for each seam. After a seam
+ * is removed, only the pixels near the seam are recomputed at first. In the exact mode, changes then propagate to the
+ * right only as far as they actually change costs, which usually stays within a narrow cone around the seam. In the
+ * approximate mode, changes do not propagate at all, so later seams are still valid but may cost slightly more than
+ * the minimum.
+ *
+ * @see DynamicProgrammingSeamFinder
+ * @see EnergyMap
+ */
+public class CumulativeEnergyMap {
+    private final Picture picture;
+    private final EnergyFunction f;
+    /**
+     * The column-major minimum seam cost to each pixel, where pixel (x, y) is at index {@code x * stride + y}.
+     */
+    private final double[] costs;
+    /**
+     * The distance in the cost array between the start of one column and the next.
+     */
+    private final int stride;
+    private final int width;
+    private int height;
+
+    /**
+     * Constructs the table of minimum horizontal seam costs for the picture. To keep the table up to date as seams are
+     * removed, the picture must be shrunk in place, such as an {@link ArrayPicture} or its transposed view, and the
+     * energy function should be an {@link EnergyMap} that is updated before this table.
+     *
+     * @param picture the input picture.
+     * @param f       the {@link EnergyFunction} for the energy of each pixel.
+     */
+    public CumulativeEnergyMap(Picture picture, EnergyFunction f) {
+        this.picture = picture;
+        this.f = f;
+        this.width = picture.width();
+        this.height = picture.height();
+        this.stride = height;
+        this.costs = new double[width * height];
+        double[] energies = new double[width * height];
+        f.applyAll(picture, energies);
+        for (int y = 0; y < height; y += 1) {
+            costs[y] = energies[y * width];
+        }
+        for (int x = 1; x < width; x += 1) {
+            int column = x * stride;
+            for (int y = 0; y < height; y += 1) {
+                costs[column + y] = energies[y * width + x] + minPrevious(x, y);
+            }
+        }
+    }
+
+    /**
+     * Returns the minimum cost of a horizontal seam from the left edge of the picture to pixel (x, y).
+     *
+     * @param x the x-index into the picture.
+     * @param y the y-index into the picture.
+     * @return the minimum cost of a horizontal seam from the left edge of the picture to pixel (x, y).
+     * @throws IndexOutOfBoundsException if (x, y) is outside of the picture.
+     */
+    public double get(int x, int y) {
+        if (x < 0 || y < 0 || x >= width || y >= height) {
+            throw new IndexOutOfBoundsException("Invalid (" + x + ", " + y + ") for picture");
+        }
+        return costs[x * stride + y];
+    }
+
+    /**
+     * Returns a minimum-cost horizontal seam according to the table as a {@link List} of integers representing the
+     * vertical pixel index in each column.
+     *
+     * @return a {@link List} of integers representing the vertical pixels in the seam.
+     */
+    public List<Integer> findHorizontal() {
+        int last = (width - 1) * stride;
+        int y = 0;
+        for (int i = 1; i < height; i += 1) {
+            if (costs[last + i] < costs[last + y]) {
+                y = i;
+            }
+        }
+        List<Integer> seam = new ArrayList<>(width);
+        seam.add(y);
+        for (int x = width - 1; x > 0; x -= 1) {
+            int column = (x - 1) * stride;
+            int best = y;
+            if (y > 0 && costs[column + y - 1] < costs[column + best]) {
+                best = y - 1;
+            }
+            if (y < height - 1 && costs[column + y + 1] < costs[column + best]) {
+                best = y + 1;
+            }
+            y = best;
+            seam.add(y);
+        }
+        Collections.reverse(seam);
+        return seam;
+    }
+
+    /**
+     * Updates the table after the horizontal seam has been removed from the picture in place and from the energy
+     * function.
+     *
+     * @param seam  the vertical pixel index removed from each column.
+     * @param exact whether to propagate changes as far as needed to keep every cost exact.
+     * @throws IllegalArgumentException if the picture does not have one fewer row than the table.
+     */
+    public void removeHorizontal(List<Integer> seam, boolean exact) {
+        if (picture.width() != width || picture.height() != height - 1 || seam.size() != width) {
+            throw new IllegalArgumentException("Picture must have the horizontal seam removed in place");
+        }
+        for (int x = 0; x < width; x += 1) {
+            int y = seam.get(x);
+            System.arraycopy(costs, x * stride + y + 1, costs, x * stride + y, height - 1 - y);
+        }
+        height -= 1;
+        int radius = f.radius();
+        // The range of rows whose costs changed in the previous column, which is empty when start > end
+        int changedStart = 0;
+        int changedEnd = -1;
+        for (int x = 0; x < width; x += 1) {
+            // Energies and predecessors only change near the seam
+            int start = Math.max(0, EnergyMap.lowest(seam, x, radius) - radius);
+            int end = Math.min(height - 1, EnergyMap.highest(seam, x, radius) + radius - 1);
+            if (exact && changedStart <= changedEnd) {
+                // A changed cost can change the costs of the next column one row above and below it
+                start = Math.min(start, Math.max(0, changedStart - 1));
+                end = Math.max(end, Math.min(height - 1, changedEnd + 1));
+            }
+            changedStart = height;
+            changedEnd = -1;
+            for (int y = start; y <= end; y += 1) {
+                double cost = cost(x, y);
+                if (cost != costs[x * stride + y]) {
+                    costs[x * stride + y] = cost;
+                    changedStart = Math.min(changedStart, y);
+                    changedEnd = y;
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the minimum seam cost to pixel (x, y) from the costs of the previous column.
+     *
+     * @param x the x-index into the picture.
+     * @param y the y-index into the picture.
+     * @return the minimum seam cost to pixel (x, y).
+     */
+    private double cost(int x, int y) {
+        double energy = f.apply(picture, x, y);
+        if (x == 0) {
+            return energy;
+        }
+        return energy + minPrevious(x, y);
+    }
+
+    /**
+     * Returns the minimum seam cost to the pixels before pixel (x, y) in the previous column.
+     *
+     * @param x the x-index into the picture, which must be at least 1.
+     * @param y the y-index into the picture.
+     * @return the minimum seam cost to the pixels before pixel (x, y).
+     */
+    private double minPrevious(int x, int y) {
+        int column = (x - 1) * stride;
+        double min = costs[column + y];
+        if (y > 0) {
+            min = Math.min(min, costs[column + y - 1]);
+        }
+        if (y < height - 1) {
+            min = Math.min(min, costs[column + y + 1]);
+        }
+        return min;
+    }
+}
@@ -18,12 +18,16 @@ public class DynamicProgrammingSeamFinder implements SeamFinder {
         int width = picture.width();
         int height = picture.height();
 
+        // Compute the row-major energy of every pixel at once
+        double[] energies = new double[width * height];
+        f.applyAll(picture, energies);
+
         // Initialize a 2D array to store the accumulated energy costs
         double[][] dp = new double[width][height];
 
         // Fill out the leftmost column with the energy values
         for (int y = 0; y < height; y++) {
-            dp[0][y] = f.apply(picture, 0, y);
+            dp[0][y] = energies[y * width];
         }
 
         // Fill out the rest of the dp table
@@ -42,7 +46,7 @@ public class DynamicProgrammingSeamFinder implements SeamFinder {
                 }
 
                 // Update dp with current pixel's energy plus minimum previous energy
-                dp[x][y] = f.apply(picture, x, y) + minPrevEnergy;
+                dp[x][y] = energies[y * width + x] + minPrevEnergy;
             }
         }
 
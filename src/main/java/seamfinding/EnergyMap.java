@@ -0,0 +1,253 @@
+package seamfinding;
+
+import seamfinding.energy.EnergyFunction;
+
+import java.util.List;
+
+/**
+ * Cache of the energy of every pixel in a {@link Picture}, itself usable as an {@link EnergyFunction} so that seam
+ * finders can read precomputed energies without any changes. Energies are looked up for the cached picture and for
+ * its {@link Picture#transposed()} view, and computed with the underlying function for any other picture. After a
+ * seam is removed from the picture, the cache shifts its energies like the pixels and recomputes only the pixels near
+ * the seam, so removing a seam costs energy work proportional to its length rather than to the size of the picture.
+ *
+ * @see EnergyFunction
+ * @see SeamFinder
+ */
+public class EnergyMap implements EnergyFunction {
+    /**
+     * The underlying {@link EnergyFunction}.
+     */
+    private final EnergyFunction f;
+    /**
+     * Maximum distance from a pixel to any other pixel read by the {@link EnergyFunction}.
+     */
+    private final int radius;
+    /**
+     * The row-major energy of each pixel, where pixel (x, y) is at index {@code y * stride + x}.
+     */
+    private final double[] energies;
+    /**
+     * The distance in the energy array between the start of one row and the next.
+     */
+    private final int stride;
+    private Picture picture;
+    /**
+     * The most recent picture found to be a transposed view of the cached picture, or null if none.
+     */
+    private Picture transposed;
+    private int width;
+    private int height;
+
+    /**
+     * Constructs a cache of the energy of every pixel in the given picture.
+     *
+     * @param picture the input picture.
+     * @param f       the {@link EnergyFunction} for computing the energy of each pixel.
+     */
+    public EnergyMap(Picture picture, EnergyFunction f) {
+        this.f = f;
+        this.radius = f.radius();
+        this.picture = picture;
+        this.width = picture.width();
+        this.height = picture.height();
+        this.stride = width;
+        this.energies = new double[width * height];
+        f.applyAll(picture, energies);
+    }
+
+    /**
+     * Returns the energy of pixel (x, y) in the given picture, reading it from the cache if the picture is the cached
+     * picture or a transposed view of it.
+     *
+     * @param picture the input picture.
+     * @param x       the x-index into the picture.
+     * @param y       the y-index into the picture.
+     * @return the energy of pixel (x, y) in the given picture.
+     */
+    @Override
+    public double apply(Picture picture, int x, int y) {
+        if (picture == this.picture) {
+            return energies[index(x, y)];
+        } else if (isTransposed(picture)) {
+            return energies[index(y, x)];
+        }
+        return f.apply(picture, x, y);
+    }
+
+    /**
+     * Computes the energy of every pixel in the given picture into the row-major output array, copying them from the
+     * cache if the picture is the cached picture or a transposed view of it.
+     *
+     * @param picture the input picture.
+     * @param out     the destination for the energy of every pixel.
+     * @throws IllegalArgumentException if the output array is smaller than the picture.
+     */
+    @Override
+    public void applyAll(Picture picture, double[] out) {
+        if (out.length < picture.width() * picture.height()) {
+            throw new IllegalArgumentException("Output must have room for every pixel");
+        }
+        if (picture == this.picture) {
+            for (int y = 0; y < height; y += 1) {
+                System.arraycopy(energies, y * stride, out, y * width, width);
+            }
+        } else if (isTransposed(picture)) {
+            // Read each row of the cache in order, writing it to a column of the output
+            for (int y = 0; y < height; y += 1) {
+                for (int x = 0; x < width; x += 1) {
+                    out[x * height + y] = energies[y * stride + x];
+                }
+            }
+        } else {
+            f.applyAll(picture, out);
+        }
+    }
+
+    /**
+     * Returns true if the given picture is a transposed view of the cached picture.
+     *
+     * @param picture the input picture.
+     * @return true if the given picture is a transposed view of the cached picture.
+     */
+    private boolean isTransposed(Picture picture) {
+        if (picture == transposed) {
+            return true;
+        } else if (picture.width() != height || picture.height() != width) {
+            // Transposing other pictures could allocate a new view or even a copy of their pixels
+            return false;
+        } else if (picture.transposed() == this.picture) {
+            transposed = picture;
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public int radius() {
+        return radius;
+    }
+
+    /**
+     * Returns the cached picture.
+     *
+     * @return the cached picture.
+     */
+    public Picture picture() {
+        return picture;
+    }
+
+    /**
+     * Updates the cache for the given picture that results from removing the horizontal seam from the cached picture.
+     * The result may be the cached picture itself if the seam was removed in place.
+     *
+     * @param result the picture without the seam.
+     * @param seam   the vertical pixel index removed from each column.
+     * @throws IllegalArgumentException if the result does not have one fewer row than the cached picture.
+     */
+    public void removeHorizontal(Picture result, List<Integer> seam) {
+        if (result.width() != width || result.height() != height - 1 || seam.size() != width) {
+            throw new IllegalArgumentException("Result must be the picture without the horizontal seam");
+        }
+        // Shift each column up across the seam
+        for (int x = 0; x < width; x += 1) {
+            for (int y = seam.get(x); y < height - 1; y += 1) {
+                energies[y * stride + x] = energies[(y + 1) * stride + x];
+            }
+        }
+        height -= 1;
+        update(result);
+        for (int x = 0; x < width; x += 1) {
+            int end = Math.min(height - 1, highest(seam, x, radius) + radius - 1);
+            for (int y = Math.max(0, lowest(seam, x, radius) - radius); y <= end; y += 1) {
+                energies[y * stride + x] = f.apply(picture, x, y);
+            }
+        }
+    }
+
+    /**
+     * Updates the cache for the given picture that results from removing the vertical seam from the cached picture.
+     * The result may be the cached picture itself if the seam was removed in place.
+     *
+     * @param result the picture without the seam.
+     * @param seam   the horizontal pixel index removed from each row.
+     * @throws IllegalArgumentException if the result does not have one fewer column than the cached picture.
+     */
+    public void removeVertical(Picture result, List<Integer> seam) {
+        if (result.width() != width - 1 || result.height() != height || seam.size() != height) {
+            throw new IllegalArgumentException("Result must be the picture without the vertical seam");
+        }
+        // Shift each row left across the seam
+        for (int y = 0; y < height; y += 1) {
+            int x = seam.get(y);
+            System.arraycopy(energies, y * stride + x + 1, energies, y * stride + x, width - 1 - x);
+        }
+        width -= 1;
+        update(result);
+        for (int y = 0; y < height; y += 1) {
+            int end = Math.min(width - 1, highest(seam, y, radius) + radius - 1);
+            for (int x = Math.max(0, lowest(seam, y, radius) - radius); x <= end; x += 1) {
+                energies[y * stride + x] = f.apply(picture, x, y);
+            }
+        }
+    }
+
+    /**
+     * Replaces the cached picture with the given picture.
+     *
+     * @param result the new cached picture.
+     */
+    private void update(Picture result) {
+        picture = result;
+        transposed = null;
+    }
+
+    /**
+     * Returns the lowest index of the seam within the radius of the given line across it. A pixel's energy can only
+     * change if a pixel within the {@link EnergyFunction#radius()} of it was shifted by a different amount, which only
+     * happens within the radius of where the seam crosses the nearby lines.
+     *
+     * @param seam   the removed seam.
+     * @param i      the index of the line across the seam.
+     * @param radius the maximum distance from a pixel to any other pixel read by the energy function.
+     * @return the lowest index of the seam within the radius of the given line.
+     */
+    static int lowest(List<Integer> seam, int i, int radius) {
+        int result = Integer.MAX_VALUE;
+        for (int j = Math.max(0, i - radius); j <= Math.min(seam.size() - 1, i + radius); j += 1) {
+            result = Math.min(result, seam.get(j));
+        }
+        return result;
+    }
+
+    /**
+     * Returns the highest index of the seam within the radius of the given line across it.
+     *
+     * @param seam   the removed seam.
+     * @param i      the index of the line across the seam.
+     * @param radius the maximum distance from a pixel to any other pixel read by the energy function.
+     * @return the highest index of the seam within the radius of the given line.
+     */
+    static int highest(List<Integer> seam, int i, int radius) {
+        int result = Integer.MIN_VALUE;
+        for (int j = Math.max(0, i - radius); j <= Math.min(seam.size() - 1, i + radius); j += 1) {
+            result = Math.max(result, seam.get(j));
+        }
+        return result;
+    }
+
+    /**
+     * Returns the index of pixel (x, y) in the energy array.
+     *
+     * @param x the x-index into the picture.
+     * @param y the y-index into the picture.
+     * @return the index of pixel (x, y) in the energy array.
+     * @throws IndexOutOfBoundsException if (x, y) is outside of the picture.
+     */
+    private int index(int x, int y) {
+        if (x < 0 || y < 0 || x >= width || y >= height) {
+            throw new IndexOutOfBoundsException("Invalid (" + x + ", " + y + ") for picture");
+        }
+        return y * stride + x;
+    }
+}
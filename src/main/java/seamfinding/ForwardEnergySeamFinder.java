@@ -0,0 +1,101 @@
+package seamfinding;
+
+import seamfinding.energy.EnergyFunction;
+
+/**
+ * Dynamic programming implementation of the {@link SeamFinder} interface using <b>forward energy</b>. Backward energy
+ * only counts the energy of the removed pixels, so it can choose seams whose removal joins very different pixels and
+ * leaves visible edges. Forward energy also counts the differences in luminance between the pixels that become
+ * neighbors when each pixel is removed, which depend on whether the seam steps up, straight, or down into the pixel.
+ * The cost of each pixel is the {@link EnergyFunction} energy plus these forward costs, so an energy function that
+ * always returns 0 gives pure forward energy.
+ * <p>
+ * The luminance of every pixel is computed once per seam into a column-major buffer, since each is read several times.
+ * Like the {@link ParallelDynamicProgrammingSeamFinder}, the table can be filled in parallel by bands of rows that
+ * wait for each other once per tile of columns.
+ *
+ * @see SeamFinder
+ * @see DynamicProgrammingSeamFinder
+ * @see ParallelDynamicProgrammingSeamFinder
+ */
+public class ForwardEnergySeamFinder extends BandedSeamFinder {
+    /**
+     * Constructs a new instance that fills the table sequentially.
+     */
+    public ForwardEnergySeamFinder() {
+        this(1);
+    }
+
+    /**
+     * Constructs a new instance using the given number of threads.
+     *
+     * @param parallelism the number of threads.
+     * @throws IllegalArgumentException if the number of threads is not positive.
+     */
+    public ForwardEnergySeamFinder(int parallelism) {
+        this(parallelism, MIN_BAND_HEIGHT);
+    }
+
+    /**
+     * Constructs a new instance using the given number of threads and minimum number of rows in each band.
+     *
+     * @param parallelism   the number of threads.
+     * @param minBandHeight the minimum number of rows in each band.
+     * @throws IllegalArgumentException if the number of threads or the minimum band height is not positive.
+     */
+    ForwardEnergySeamFinder(int parallelism, int minBandHeight) {
+        super(parallelism, minBandHeight);
+    }
+
+    @Override
+    Transitions transitions(Picture picture, Bands bands) {
+        int height = picture.height();
+        // Column-major luminance of each pixel
+        int[] luminance = new int[picture.width() * height];
+        bands.forEach((start, end) -> fillLuminance(picture, luminance, start, end));
+        return new Transitions() {
+            @Override
+            public double straight(int x, int y) {
+                // Removing the pixel joins the pixels above and below it
+                int column = x * height;
+                return Math.abs(luminance[column + Math.min(height - 1, y + 1)]
+                        - luminance[column + Math.max(0, y - 1)]);
+            }
+
+            @Override
+            public double up(int x, int y) {
+                // Stepping up into the pixel also joins the pixel to its left with the pixel above it
+                int column = x * height;
+                return Math.abs(luminance[column - height + y] - luminance[column + Math.max(0, y - 1)]);
+            }
+
+            @Override
+            public double down(int x, int y) {
+                // Stepping down into the pixel also joins the pixel to its left with the pixel below it
+                int column = x * height;
+                return Math.abs(luminance[column - height + y] - luminance[column + Math.min(height - 1, y + 1)]);
+            }
+        };
+    }
+
+    /**
+     * Fills the luminance of the given rows of the picture, reading each row in order.
+     *
+     * @param picture   the input picture.
+     * @param luminance the destination for the column-major luminance of each pixel.
+     * @param start     the first row to fill.
+     * @param end       the row after the last row to fill.
+     */
+    private static void fillLuminance(Picture picture, int[] luminance, int start, int end) {
+        int width = picture.width();
+        int height = picture.height();
+        for (int y = start; y < end; y += 1) {
+            for (int x = 0; x < width; x += 1) {
+                int rgb = picture.get(x, y);
+                // Integer approximation of the ITU-R BT.601 weights 0.299, 0.587, and 0.114
+                luminance[x * height + y] = (77 * ((rgb >> 16) & 0xFF) + 150 * ((rgb >> 8) & 0xFF)
+                        + 29 * (rgb & 0xFF)) >> 8;
+            }
+        }
+    }
+}
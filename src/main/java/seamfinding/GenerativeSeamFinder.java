@@ -62,6 +62,11 @@ public class GenerativeSeamFinder implements SeamFinder {
          * The {@link EnergyFunction} for {@link #neighbors(Node)}.
          */
         private final EnergyFunction f;
+        /**
+         * The row-major energy of each pixel in the {@link Picture}, computed at once so that generating edges only
+         * reads them.
+         */
+        private final double[] energies;
         /**
          * Source {@link Node} for the adjacency list graph.
          */
@@ -71,7 +76,7 @@ public class GenerativeSeamFinder implements SeamFinder {
                 List<Edge<Node>> result = new ArrayList<>(picture.height());
                 for (int y = 0; y < picture.height(); y++) {
                     Pixel to = new Pixel(0, y);
-                    double weight = f.apply(picture, 0, y);
+                    double weight = energies[y * picture.width()];
                     result.add(new Edge<>(this, to, weight));
                 }
                 return result;
@@ -88,8 +93,8 @@ public class GenerativeSeamFinder implements SeamFinder {
         };
 
         /**
-         * Constructs a generative adjacency list graph. All work is deferred to implementations of
-         * {@link Node#neighbors(Picture, EnergyFunction)}.
+         * Constructs a generative adjacency list graph. Apart from computing the energy of every pixel, all work is
+         * deferred to implementations of {@link Node#neighbors(Picture, EnergyFunction)}.
          *
          * @param picture the input picture.
          * @param f       the input energy function.
@@ -97,6 +102,8 @@ public class GenerativeSeamFinder implements SeamFinder {
         private PixelGraph(Picture picture, EnergyFunction f) {
             this.picture = picture;
             this.f = f;
+            this.energies = new double[picture.width() * picture.height()];
+            f.applyAll(picture, energies);
         }
 
         @Override
@@ -134,20 +141,20 @@ public class GenerativeSeamFinder implements SeamFinder {
                 if (x < picture.width() - 1) {
                     // Right-middle neighbor
                     Pixel right = new Pixel(x + 1, y);
-                    double weight = f.apply(picture, x + 1, y);
+                    double weight = energies[y * picture.width() + x + 1];
                     neighbors.add(new Edge<>(this, right, weight));
 
                     // Right-up neighbor
                     if (y > 0) {
                         Pixel rightUp = new Pixel(x + 1, y - 1);
-                        weight = f.apply(picture, x + 1, y - 1);
+                        weight = energies[(y - 1) * picture.width() + x + 1];
                         neighbors.add(new Edge<>(this, rightUp, weight));
                     }
 
                     // Right-down neighbor
                     if (y < picture.height() - 1) {
                         Pixel rightDown = new Pixel(x + 1, y + 1);
-                        weight = f.apply(picture, x + 1, y + 1);
+                        weight = energies[(y + 1) * picture.width() + x + 1];
                         neighbors.add(new Edge<>(this, rightDown, weight));
                     }
                 } else {
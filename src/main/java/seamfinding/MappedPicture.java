@@ -0,0 +1,273 @@
+package seamfinding;
+
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A {@link Picture} backed by a memory-mapped <b>raw</b> file rather than an image in the heap, so that pictures larger
+ * than the heap can be carved. A raw file has no header: it is the row-major pixels of the picture, each stored as a
+ * 4-byte big-endian red-green-blue color. The operating system pages the file in and out as pixels are accessed, so
+ * reading the picture one row at a time, as {@link StreamingSeamFinder#findVertical(Picture,
+ * seamfinding.energy.EnergyFunction)} does, only keeps a few rows in memory at once. Seams are removed in place by
+ * shifting pixels within the file, which shrinks the picture without changing the length of the file.
+ *
+ * @see Picture
+ * @see StreamingSeamFinder
+ */
+public final class MappedPicture extends Picture {
+    /**
+     * Bits set in every pixel so that colors match those of an opaque {@link BufferedImage#TYPE_INT_RGB} image.
+     */
+    private static final int OPAQUE = 0xFF000000;
+    /**
+     * Number of bytes in each pixel.
+     */
+    private static final int BYTES_PER_PIXEL = Integer.BYTES;
+    /**
+     * Default maximum number of bytes in each mapped segment of the file, which is the most a single buffer can map.
+     */
+    private static final int MAX_SEGMENT_BYTES = Integer.MAX_VALUE;
+    private int width;
+    private int height;
+    /**
+     * The number of pixels between the start of one row in the file and the next, which stays the same as seams are
+     * removed.
+     */
+    private final int stride;
+    /**
+     * The number of rows in each mapped segment of the file.
+     */
+    private final int rowsPerSegment;
+    /**
+     * The mapped segments of the file, each containing {@link #rowsPerSegment} rows except possibly the last.
+     */
+    private final MappedByteBuffer[] segments;
+
+    /**
+     * Constructs a picture backed by the given raw file, which must contain at least the pixels of a picture with the
+     * given width and height dimensions. Changes to the picture are written through to the file.
+     *
+     * @param path   the path to the raw file.
+     * @param width  the horizontal dimension for the picture.
+     * @param height the vertical dimension for the picture.
+     * @throws IOException              if an error occurs while opening or mapping the file.
+     * @throws IllegalArgumentException if either dimension is not positive or the file is too short.
+     */
+    public MappedPicture(Path path, int width, int height) throws IOException {
+        this(path, width, height, MAX_SEGMENT_BYTES);
+    }
+
+    /**
+     * Constructs a picture backed by the given raw file, mapping at most the given number of bytes at a time.
+     *
+     * @param path            the path to the raw file.
+     * @param width           the horizontal dimension for the picture.
+     * @param height          the vertical dimension for the picture.
+     * @param maxSegmentBytes the maximum number of bytes in each mapped segment of the file.
+     * @throws IOException              if an error occurs while opening or mapping the file.
+     * @throws IllegalArgumentException if either dimension is not positive, the file is too short, or a row does not
+     *                                  fit in a segment.
+     */
+    MappedPicture(Path path, int width, int height, int maxSegmentBytes) throws IOException {
+        if (width <= 0 || height <= 0) {
+            throw new IllegalArgumentException("Dimensions must be positive");
+        } else if ((long) width * BYTES_PER_PIXEL > maxSegmentBytes) {
+            throw new IllegalArgumentException("Picture is too wide to map");
+        }
+        this.width = width;
+        this.height = height;
+        this.stride = width;
+        this.rowsPerSegment = maxSegmentBytes / (width * BYTES_PER_PIXEL);
+        this.segments = new MappedByteBuffer[(height + rowsPerSegment - 1) / rowsPerSegment];
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            if (channel.size() < (long) width * height * BYTES_PER_PIXEL) {
+                throw new IllegalArgumentException("File is too short for the picture dimensions");
+            }
+            // Mappings stay valid after the channel is closed
+            for (int i = 0; i < segments.length; i += 1) {
+                int rows = Math.min(rowsPerSegment, height - i * rowsPerSegment);
+                segments[i] = channel.map(FileChannel.MapMode.READ_WRITE,
+                        (long) i * rowsPerSegment * width * BYTES_PER_PIXEL, (long) rows * width * BYTES_PER_PIXEL);
+            }
+        }
+    }
+
+    /**
+     * Writes the pixels of the given picture to a new raw file at the given path, one row at a time, and returns a
+     * picture backed by the file.
+     *
+     * @param picture the input picture.
+     * @param path    the path to the new raw file.
+     * @return a picture backed by the new raw file.
+     * @throws IOException if an error occurs while writing the file.
+     */
+    public static MappedPicture create(Picture picture, Path path) throws IOException {
+        writeRaw(picture, path);
+        return new MappedPicture(path, picture.width(), picture.height());
+    }
+
+    /**
+     * Writes the pixels of the given picture to a raw file at the given path, one row at a time, replacing the file if
+     * it already exists.
+     *
+     * @param picture the input picture.
+     * @param path    the path to the raw file.
+     * @throws IOException if an error occurs while writing the file.
+     */
+    public static void writeRaw(Picture picture, Path path) throws IOException {
+        int width = picture.width();
+        ByteBuffer row = ByteBuffer.allocate(width * BYTES_PER_PIXEL);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            for (int y = 0; y < picture.height(); y += 1) {
+                row.clear();
+                for (int x = 0; x < width; x += 1) {
+                    row.putInt(picture.get(x, y) | OPAQUE);
+                }
+                row.flip();
+                while (row.hasRemaining()) {
+                    channel.write(row);
+                }
+            }
+        }
+    }
+
+    @Override
+    public int get(int x, int y) {
+        return segment(y).getInt(offset(x, y)) | OPAQUE;
+    }
+
+    @Override
+    public void set(int x, int y, int rgb) {
+        segment(y).putInt(offset(x, y), rgb | OPAQUE);
+    }
+
+    @Override
+    public int width() {
+        return width;
+    }
+
+    @Override
+    public int height() {
+        return height;
+    }
+
+    /**
+     * Removes the horizontal seam in place by shifting the pixels below it in each column up by one row. Rows are
+     * visited in order so that the file is read and written sequentially.
+     *
+     * @param seam the vertical pixel index to remove from each column.
+     * @throws IllegalArgumentException if the seam is not a valid horizontal seam or the picture has only one row.
+     */
+    public void removeHorizontal(List<Integer> seam) {
+        int[] indices = check(seam, width, height);
+        int top = height;
+        for (int y : indices) {
+            top = Math.min(top, y);
+        }
+        for (int y = top; y < height - 1; y += 1) {
+            MappedByteBuffer row = segment(y);
+            MappedByteBuffer below = segment(y + 1);
+            for (int x = 0; x < width; x += 1) {
+                if (y >= indices[x]) {
+                    row.putInt(offset(x, y), below.getInt(offset(x, y + 1)));
+                }
+            }
+        }
+        height -= 1;
+    }
+
+    /**
+     * Removes the vertical seam in place by shifting the pixels right of it in each row left by one column.
+     *
+     * @param seam the horizontal pixel index to remove from each row.
+     * @throws IllegalArgumentException if the seam is not a valid vertical seam or the picture has only one column.
+     */
+    public void removeVertical(List<Integer> seam) {
+        int[] indices = check(seam, height, width);
+        for (int y = 0; y < height; y += 1) {
+            MappedByteBuffer row = segment(y);
+            for (int x = indices[y]; x < width - 1; x += 1) {
+                row.putInt(offset(x, y), row.getInt(offset(x + 1, y)));
+            }
+        }
+        width -= 1;
+    }
+
+    /**
+     * Returns the seam as an array after checking that it crosses every line with one pixel in bounds.
+     *
+     * @param seam   the seam to remove.
+     * @param length the number of lines crossed by the seam.
+     * @param bound  the number of pixels in each line.
+     * @return the seam as an array.
+     * @throws IllegalArgumentException if the seam is not valid or each line has only one pixel.
+     */
+    private static int[] check(List<Integer> seam, int length, int bound) {
+        if (bound <= 1) {
+            throw new IllegalArgumentException("Picture is too small to remove a seam");
+        } else if (seam.size() != length) {
+            throw new IllegalArgumentException("Seam length does not match picture");
+        }
+        int[] result = new int[length];
+        for (int i = 0; i < length; i += 1) {
+            result[i] = seam.get(i);
+            if (result[i] < 0 || result[i] >= bound) {
+                throw new IllegalArgumentException("Seam value out of bounds at index " + i);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Writes any changes to the pixels through to the storage device containing the file.
+     */
+    public void force() {
+        for (MappedByteBuffer segment : segments) {
+            segment.force();
+        }
+    }
+
+    /**
+     * Writes the picture to the given file path. Since the image is first copied into the heap, this is only suitable
+     * for pictures that fit in memory; use {@link #writeRaw(Picture, Path)} for larger pictures.
+     *
+     * @param file the file path.
+     * @throws IOException if an error occurs during writing.
+     */
+    @Override
+    public void save(File file) throws IOException {
+        write(new ArrayPicture(this).toBufferedImage(), file);
+    }
+
+    /**
+     * Returns the mapped segment of the file containing the given row.
+     *
+     * @param y the y-index into the picture.
+     * @return the mapped segment of the file containing the given row.
+     * @throws IndexOutOfBoundsException if the row is outside of the picture.
+     */
+    private MappedByteBuffer segment(int y) {
+        return segments[Objects.checkIndex(y, height) / rowsPerSegment];
+    }
+
+    /**
+     * Returns the byte offset of pixel (x, y) within its mapped segment.
+     *
+     * @param x the x-index into the picture.
+     * @param y the y-index into the picture.
+     * @return the byte offset of pixel (x, y) within its mapped segment.
+     * @throws IndexOutOfBoundsException if the column is outside of the picture.
+     */
+    private int offset(int x, int y) {
+        return ((y % rowsPerSegment) * stride + Objects.checkIndex(x, width)) * BYTES_PER_PIXEL;
+    }
+}
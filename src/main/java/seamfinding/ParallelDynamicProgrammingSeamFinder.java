@@ -0,0 +1,67 @@
+package seamfinding;
+
+/**
+ * Parallel dynamic programming implementation of the {@link SeamFinder} interface. The rows of the picture are split
+ * into <b>bands</b> that fill the table of minimum seam costs in parallel, a <b>tile</b> of several columns at a time.
+ * Each column depends on the previous column's costs one row above and below, so at the start of a tile, each band
+ * also computes the rows bordering it: as many rows as there are columns left in the tile, shrinking by one per
+ * column. In return, the bands only wait for each other once per tile rather than once per column. Each cell stores
+ * the row of its best predecessor so that the seam is traced back without recomputing any minimums.
+ *
+ * @see SeamFinder
+ * @see DynamicProgrammingSeamFinder
+ */
+public class ParallelDynamicProgrammingSeamFinder extends BandedSeamFinder {
+    /**
+     * Backward energy only counts the energy of each pixel, so stepping between pixels is free.
+     */
+    private static final Transitions FREE = new Transitions() {
+        @Override
+        public double straight(int x, int y) {
+            return 0.0;
+        }
+
+        @Override
+        public double up(int x, int y) {
+            return 0.0;
+        }
+
+        @Override
+        public double down(int x, int y) {
+            return 0.0;
+        }
+    };
+
+    /**
+     * Constructs a new instance using one thread per available processor.
+     */
+    public ParallelDynamicProgrammingSeamFinder() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Constructs a new instance using the given number of threads.
+     *
+     * @param parallelism the number of threads.
+     * @throws IllegalArgumentException if the number of threads is not positive.
+     */
+    public ParallelDynamicProgrammingSeamFinder(int parallelism) {
+        this(parallelism, MIN_BAND_HEIGHT);
+    }
+
+    /**
+     * Constructs a new instance using the given number of threads and minimum number of rows in each band.
+     *
+     * @param parallelism   the number of threads.
+     * @param minBandHeight the minimum number of rows in each band.
+     * @throws IllegalArgumentException if the number of threads or the minimum band height is not positive.
+     */
+    ParallelDynamicProgrammingSeamFinder(int parallelism, int minBandHeight) {
+        super(parallelism, minBandHeight);
+    }
+
+    @Override
+    Transitions transitions(Picture picture, Bands bands) {
+        return FREE;
+    }
+}
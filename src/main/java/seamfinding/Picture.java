@@ -97,6 +97,17 @@ public class Picture {
      * @throws IOException if an error occurs during writing.
      */
     public void save(File file) throws IOException {
+        write(image, file);
+    }
+
+    /**
+     * Writes the image to the given file path in the format given by its extension.
+     *
+     * @param image the image to write.
+     * @param file  the file path.
+     * @throws IOException if an error occurs during writing.
+     */
+    static void write(BufferedImage image, File file) throws IOException {
         String extension = file.getName().substring(file.getName().lastIndexOf('.') + 1);
         if ("jpg".equalsIgnoreCase(extension) || "png".equalsIgnoreCase(extension)) {
             ImageIO.write(image, extension, file);
@@ -0,0 +1,165 @@
+package seamfinding;
+
+import seamfinding.energy.EnergyFunction;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Dynamic programming implementation of the {@link SeamFinder} interface for pictures too large for a full table of
+ * seam costs. Vertical seams are found by streaming the picture one row at a time from top to bottom, keeping only the
+ * minimum seam costs of the previous and current rows. To trace back the seam, each pixel stores which of its three
+ * predecessors is best in 2 bits, packing 4 pixels into each byte. Like the pixels of a {@link MappedPicture}, these
+ * predecessors are written one row at a time to a temporary memory-mapped file rather than kept in the heap, so heap
+ * memory scales with the width of the picture rather than its area. For the same reason, energies are computed one
+ * pixel at a time as each row is read, rather than all at once with
+ * {@link EnergyFunction#applyAll(Picture, double[])}.
+ * <p>
+ * Horizontal seams are found as vertical seams of the {@link Picture#transposed()} view, which reads the picture one
+ * column at a time, so prefer vertical seams for pictures stored in row-major order.
+ *
+ * @see SeamFinder
+ * @see DynamicProgrammingSeamFinder
+ * @see MappedPicture
+ */
+public class StreamingSeamFinder implements SeamFinder {
+    /**
+     * Number of bits used to store the best predecessor of each pixel.
+     */
+    private static final int BITS = 2;
+    /**
+     * Number of pixels whose best predecessors are packed into each byte.
+     */
+    private static final int PER_BYTE = Byte.SIZE / BITS;
+    /**
+     * Default maximum number of bytes in each mapped segment of the temporary file, which is the most a single buffer
+     * can map.
+     */
+    private static final int MAX_SEGMENT_BYTES = Integer.MAX_VALUE;
+    /**
+     * The maximum number of bytes in each mapped segment of the temporary file.
+     */
+    private final int maxSegmentBytes;
+
+    /**
+     * Constructs a new instance.
+     */
+    public StreamingSeamFinder() {
+        this(MAX_SEGMENT_BYTES);
+    }
+
+    /**
+     * Constructs a new instance that maps at most the given number of bytes of the temporary file at a time.
+     *
+     * @param maxSegmentBytes the maximum number of bytes in each mapped segment of the temporary file.
+     * @throws IllegalArgumentException if the maximum number of bytes is not positive.
+     */
+    StreamingSeamFinder(int maxSegmentBytes) {
+        if (maxSegmentBytes <= 0) {
+            throw new IllegalArgumentException("Segment size must be positive");
+        }
+        this.maxSegmentBytes = maxSegmentBytes;
+    }
+
+    @Override
+    public List<Integer> findHorizontal(Picture picture, EnergyFunction f) {
+        return findVertical(picture.transposed(), f);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws UncheckedIOException     if an error occurs while creating or mapping the temporary file.
+     * @throws IllegalArgumentException if a row of predecessors does not fit in a segment of the temporary file.
+     */
+    @Override
+    public List<Integer> findVertical(Picture picture, EnergyFunction f) {
+        int bytesPerRow = (picture.width() + PER_BYTE - 1) / PER_BYTE;
+        if (bytesPerRow > maxSegmentBytes) {
+            throw new IllegalArgumentException("Picture is too wide to map");
+        }
+        int rowsPerSegment = maxSegmentBytes / bytesPerRow;
+        int height = picture.height();
+        try (FileChannel channel = FileChannel.open(Files.createTempFile("seam", ".edges"),
+                StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.DELETE_ON_CLOSE)) {
+            // Mapping past the end of the file grows it, and mappings stay valid after the channel is closed
+            MappedByteBuffer[] edgeTo = new MappedByteBuffer[(height - 1) / rowsPerSegment + 1];
+            for (int i = 0; i < edgeTo.length; i += 1) {
+                int rows = Math.min(rowsPerSegment, height - i * rowsPerSegment);
+                edgeTo[i] = channel.map(FileChannel.MapMode.READ_WRITE, (long) i * rowsPerSegment * bytesPerRow,
+                        (long) rows * bytesPerRow);
+            }
+            return findVertical(picture, f, edgeTo, rowsPerSegment, bytesPerRow);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Returns a minimum-cost vertical seam, storing the best predecessors of each row in the mapped segments.
+     *
+     * @param picture        the input picture.
+     * @param f              the {@link EnergyFunction} for computing the energy of each pixel.
+     * @param edgeTo         the mapped segments for the packed best predecessors of each row.
+     * @param rowsPerSegment the number of rows in each mapped segment.
+     * @param bytesPerRow    the number of bytes in each row of packed best predecessors.
+     * @return a minimum-cost vertical seam.
+     */
+    private static List<Integer> findVertical(Picture picture, EnergyFunction f, MappedByteBuffer[] edgeTo,
+                                              int rowsPerSegment, int bytesPerRow) {
+        int width = picture.width();
+        int height = picture.height();
+        // Offset of the best predecessor of each pixel in the row above, stored as 0 for x - 1, 1 for x, 2 for x + 1
+        byte[] row = new byte[bytesPerRow];
+        // Minimum seam costs of the previous row and of the current row
+        double[] costs = new double[width];
+        double[] next = new double[width];
+
+        for (int x = 0; x < width; x += 1) {
+            costs[x] = f.apply(picture, x, 0);
+        }
+        for (int y = 1; y < height; y += 1) {
+            Arrays.fill(row, (byte) 0);
+            for (int x = 0; x < width; x += 1) {
+                // Pixels beyond the edges of the picture are never the best predecessor
+                double left = x > 0 ? costs[x - 1] : Double.POSITIVE_INFINITY;
+                double right = x < width - 1 ? costs[x + 1] : Double.POSITIVE_INFINITY;
+                // Conditional selects rather than branches, which are unpredictable on noisy pictures
+                double min = costs[x];
+                int best = left < min ? 0 : 1;
+                min = Math.min(min, left);
+                best = right < min ? 2 : best;
+                min = Math.min(min, right);
+                next[x] = f.apply(picture, x, y) + min;
+                row[x / PER_BYTE] |= (byte) (best << (x % PER_BYTE * BITS));
+            }
+            edgeTo[y / rowsPerSegment].put(y % rowsPerSegment * bytesPerRow, row);
+            double[] temp = costs;
+            costs = next;
+            next = temp;
+        }
+
+        // Trace back from the minimum cost in the bottom row
+        int x = 0;
+        for (int i = 1; i < width; i += 1) {
+            if (costs[i] < costs[x]) {
+                x = i;
+            }
+        }
+        Integer[] seam = new Integer[height];
+        for (int y = height - 1; y > 0; y -= 1) {
+            seam[y] = x;
+            byte packed = edgeTo[y / rowsPerSegment].get(y % rowsPerSegment * bytesPerRow + x / PER_BYTE);
+            x += ((packed >> (x % PER_BYTE * BITS)) & 0b11) - 1;
+        }
+        seam[0] = x;
+        return new ArrayList<>(List.of(seam));
+    }
+}
@@ -0,0 +1,175 @@
+package seamfinding.energy;
+
+import seamfinding.ArrayPicture;
+import seamfinding.Picture;
+
+/**
+ * Separable convolution over the luminance of a {@link Picture}, shared by the energy functions built from filters. A
+ * separable filter is applied as a pass along each row with a horizontal kernel followed by a pass along each column
+ * with a vertical kernel, so a filter of width k reads 2k values per pixel rather than k<sup>2</sup>. Each pass is a
+ * simple loop over whole rows that the JIT compiler can vectorize. Pixels beyond the edges of the picture repeat the
+ * nearest pixel inside it.
+ * <p>
+ * Every kernel has an odd length and is centered on the pixel. The bulk {@link #convolve(float[], int, int, float[],
+ * float[])} and the single-pixel {@link #convolve(Picture, int, int, float[], float[])} add the same terms in the same
+ * order, so they give identical results.
+ *
+ * @see EnergyFunction
+ */
+final class Convolution {
+    private Convolution() {
+    }
+
+    /**
+     * Returns the luminance of the color using the ITU-R BT.601 weights.
+     *
+     * @param rgb 24-bit color represented as three 8-bit red-green-blue color components.
+     * @return the luminance of the color, from 0 to 255.
+     */
+    static float luminance(int rgb) {
+        return 0.299f * ((rgb >> 16) & 0xFF) + 0.587f * ((rgb >> 8) & 0xFF) + 0.114f * (rgb & 0xFF);
+    }
+
+    /**
+     * Returns the row-major luminance of every pixel in the picture, where pixel (x, y) is at index
+     * {@code y * width + x}.
+     *
+     * @param picture the input picture.
+     * @return the row-major luminance of every pixel in the picture.
+     */
+    static float[] luminance(Picture picture) {
+        int width = picture.width();
+        int height = picture.height();
+        float[] result = new float[width * height];
+        if (picture instanceof ArrayPicture array) {
+            int[] pixels = array.pixels();
+            int stride = array.stride();
+            for (int y = 0; y < height; y += 1) {
+                for (int x = 0; x < width; x += 1) {
+                    result[y * width + x] = luminance(pixels[y * stride + x]);
+                }
+            }
+        } else {
+            for (int y = 0; y < height; y += 1) {
+                for (int x = 0; x < width; x += 1) {
+                    result[y * width + x] = luminance(picture.get(x, y));
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the result of convolving the row-major values with the horizontal kernel along each row and then the
+     * vertical kernel along each column.
+     *
+     * @param in         the row-major input values.
+     * @param width      the number of values in each row.
+     * @param height     the number of rows.
+     * @param horizontal the kernel applied along each row.
+     * @param vertical   the kernel applied along each column.
+     * @return the row-major convolved values.
+     */
+    static float[] convolve(float[] in, int width, int height, float[] horizontal, float[] vertical) {
+        float[] rows = new float[width * height];
+        int radius = horizontal.length / 2;
+        for (int y = 0; y < height; y += 1) {
+            int row = y * width;
+            for (int i = 0; i < horizontal.length; i += 1) {
+                float k = horizontal[i];
+                int shift = i - radius;
+                // Columns whose neighbor at the shift is inside the row, and the columns before and after them
+                int start = Math.min(width, Math.max(0, -shift));
+                int end = Math.max(start, Math.min(width, width - shift));
+                for (int x = 0; x < start; x += 1) {
+                    rows[row + x] += k * in[row];
+                }
+                for (int x = start; x < end; x += 1) {
+                    rows[row + x] += k * in[row + x + shift];
+                }
+                for (int x = end; x < width; x += 1) {
+                    rows[row + x] += k * in[row + width - 1];
+                }
+            }
+        }
+        float[] result = new float[width * height];
+        radius = vertical.length / 2;
+        for (int y = 0; y < height; y += 1) {
+            int row = y * width;
+            for (int j = 0; j < vertical.length; j += 1) {
+                float k = vertical[j];
+                int source = clamp(y + j - radius, height) * width;
+                for (int x = 0; x < width; x += 1) {
+                    result[row + x] += k * rows[source + x];
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the result of convolving the luminance of the picture around pixel (x, y) with the horizontal kernel
+     * along each row and then the vertical kernel along each column.
+     *
+     * @param picture    the input picture.
+     * @param x          the x-index into the picture.
+     * @param y          the y-index into the picture.
+     * @param horizontal the kernel applied along each row.
+     * @param vertical   the kernel applied along each column.
+     * @return the convolved luminance at pixel (x, y).
+     */
+    static float convolve(Picture picture, int x, int y, float[] horizontal, float[] vertical) {
+        int width = picture.width();
+        int height = picture.height();
+        int horizontalRadius = horizontal.length / 2;
+        int verticalRadius = vertical.length / 2;
+        float result = 0;
+        for (int j = 0; j < vertical.length; j += 1) {
+            int row = clamp(y + j - verticalRadius, height);
+            float sum = 0;
+            for (int i = 0; i < horizontal.length; i += 1) {
+                sum += horizontal[i] * luminance(picture.get(clamp(x + i - horizontalRadius, width), row));
+            }
+            result += vertical[j] * sum;
+        }
+        return result;
+    }
+
+    /**
+     * Returns the nearest index to i from 0 to n - 1.
+     *
+     * @param i the index.
+     * @param n the number of indices.
+     * @return the nearest index to i from 0 to n - 1.
+     */
+    static int clamp(int i, int n) {
+        return Math.max(0, Math.min(n - 1, i));
+    }
+
+    /**
+     * Throws an exception if the pixel is outside of the picture.
+     *
+     * @param picture the input picture.
+     * @param x       the x-index into the picture.
+     * @param y       the y-index into the picture.
+     * @throws IndexOutOfBoundsException if (x, y) is outside of the picture.
+     */
+    static void checkBounds(Picture picture, int x, int y) {
+        if (x < 0 || y < 0 || x >= picture.width() || y >= picture.height()) {
+            throw new IndexOutOfBoundsException("Invalid (" + x + ", " + y + ") for picture");
+        }
+    }
+
+    /**
+     * Throws an exception if the output array is too small for the energy of every pixel in the picture.
+     *
+     * @param picture the input picture.
+     * @param out     the destination for the energy of every pixel.
+     * @throws IllegalArgumentException if the output array is smaller than the picture.
+     */
+    static void checkOutput(Picture picture, double[] out) {
+        if (out.length < picture.width() * picture.height()) {
+            throw new IllegalArgumentException("Output must have room for every pixel");
+        }
+    }
+}
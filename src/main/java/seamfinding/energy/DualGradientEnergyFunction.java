@@ -1,9 +1,13 @@
 package seamfinding.energy;
 
+import seamfinding.ArrayPicture;
 import seamfinding.Picture;
 
+import java.util.Arrays;
+
 /**
- * Dual-gradient implementation of the {@link EnergyFunction} interface for {@link Picture} objects.
+ * Dual-gradient implementation of the {@link EnergyFunction} interface for {@link Picture} objects. Pixels of an
+ * {@link ArrayPicture} are read directly from its backing array.
  *
  * @see EnergyFunction
  * @see Picture
@@ -17,7 +21,7 @@ public class DualGradientEnergyFunction implements EnergyFunction {
      * @param y       the y-index into the picture.
      * @return the horizontal derivative for the (x, y) pixel in the picture.
      */
-    private static double horizontalDerivative(Picture picture, int x, int y) {
+    private static int horizontalDerivative(Picture picture, int x, int y) {
         if (x == 0) {
             return forwardDiff(picture.get(x, y), picture.get(x + 1, y), picture.get(x + 2, y));
         } else if (x == picture.width() - 1) {
@@ -35,7 +39,7 @@ public class DualGradientEnergyFunction implements EnergyFunction {
      * @param y       the y-index into the picture.
      * @return the vertical derivative for the (x, y) pixel in the picture.
      */
-    private static double verticalDerivative(Picture picture, int x, int y) {
+    private static int verticalDerivative(Picture picture, int x, int y) {
         if (y == 0) {
             return forwardDiff(picture.get(x, y), picture.get(x, y + 1), picture.get(x, y + 2));
         } else if (y == picture.height() - 1) {
@@ -52,10 +56,10 @@ public class DualGradientEnergyFunction implements EnergyFunction {
      * @param rgb2 the second pixel's color.
      * @return the central difference between the two pixels' colors.
      */
-    private static double centralDiff(int rgb1, int rgb2) {
-        return Math.pow(red(rgb1) - red(rgb2), 2)
-                + Math.pow(green(rgb1) - green(rgb2), 2)
-                + Math.pow(blue(rgb1) - blue(rgb2), 2);
+    private static int centralDiff(int rgb1, int rgb2) {
+        return square(red(rgb1) - red(rgb2))
+                + square(green(rgb1) - green(rgb2))
+                + square(blue(rgb1) - blue(rgb2));
     }
 
     /**
@@ -66,10 +70,21 @@ public class DualGradientEnergyFunction implements EnergyFunction {
      * @param rgb3 the third adjacent pixel's color.
      * @return the forward/backward difference for the three adjacent pixels' colors.
      */
-    private static double forwardDiff(int rgb1, int rgb2, int rgb3) {
-        return Math.pow(-3 * red(rgb1) + 4 * red(rgb2) - red(rgb3), 2)
-                + Math.pow(-3 * green(rgb1) + 4 * green(rgb2) - green(rgb3), 2)
-                + Math.pow(-3 * blue(rgb1) + 4 * blue(rgb2) - blue(rgb3), 2);
+    private static int forwardDiff(int rgb1, int rgb2, int rgb3) {
+        return square(-3 * red(rgb1) + 4 * red(rgb2) - red(rgb3))
+                + square(-3 * green(rgb1) + 4 * green(rgb2) - green(rgb3))
+                + square(-3 * blue(rgb1) + 4 * blue(rgb2) - blue(rgb3));
+    }
+
+    /**
+     * Returns the square of the value. Differences of 8-bit components are small enough that the sum of all six
+     * squares fits in an {@code int} exactly.
+     *
+     * @param value the value to square.
+     * @return the square of the value.
+     */
+    private static int square(int value) {
+        return value * value;
     }
 
     /**
@@ -107,6 +122,122 @@ public class DualGradientEnergyFunction implements EnergyFunction {
         if (x < 0 || y < 0 || x >= picture.width() || y >= picture.height()) {
             throw new IndexOutOfBoundsException("Invalid (" + x + ", " + y + ") for picture");
         }
+        if (picture instanceof ArrayPicture array) {
+            return Math.sqrt(squaredGradient(array.pixels(), array.stride(), array.width(), array.height(), x, y));
+        }
         return Math.sqrt(horizontalDerivative(picture, x, y) + verticalDerivative(picture, x, y));
     }
+
+    /**
+     * Computes the energy of every pixel in the picture into the row-major output array, where the energy of pixel
+     * (x, y) is stored at index {@code y * width + x}. Gives the same results as {@link #apply(Picture, int, int)} for
+     * each pixel, but computes the interior of each row with simple loops over whole rows that the JIT compiler can
+     * vectorize.
+     *
+     * @param picture the input picture.
+     * @param out     the destination for the energy of every pixel.
+     * @throws IllegalArgumentException if the output array is smaller than the picture.
+     */
+    @Override
+    public void applyAll(Picture picture, double[] out) {
+        int width = picture.width();
+        int height = picture.height();
+        if (out.length < width * height) {
+            throw new IllegalArgumentException("Output must have room for every pixel");
+        }
+        if (width < 3 || height < 3) {
+            for (int y = 0; y < height; y += 1) {
+                for (int x = 0; x < width; x += 1) {
+                    out[y * width + x] = apply(picture, x, y);
+                }
+            }
+            return;
+        }
+        ArrayPicture array = picture instanceof ArrayPicture a ? a : new ArrayPicture(picture);
+        int[] pixels = array.pixels();
+        int stride = array.stride();
+        int interior = width - 2;
+        int[] left = new int[interior];
+        int[] right = new int[interior];
+        int[] up = new int[interior];
+        int[] down = new int[interior];
+        int[] squares = new int[interior];
+        for (int y = 0; y < height; y += 1) {
+            if (y == 0 || y == height - 1) {
+                // Rows along the edges use forward differences for every pixel
+                for (int x = 0; x < width; x += 1) {
+                    out[y * width + x] = Math.sqrt(squaredGradient(pixels, stride, width, height, x, y));
+                }
+                continue;
+            }
+            out[y * width] = Math.sqrt(squaredGradient(pixels, stride, width, height, 0, y));
+            out[y * width + width - 1] = Math.sqrt(squaredGradient(pixels, stride, width, height, width - 1, y));
+            // Copy the neighbors of the interior pixels so that each loop reads every array at the same index
+            int row = y * stride;
+            System.arraycopy(pixels, row, left, 0, interior);
+            System.arraycopy(pixels, row + 2, right, 0, interior);
+            System.arraycopy(pixels, row - stride + 1, up, 0, interior);
+            System.arraycopy(pixels, row + stride + 1, down, 0, interior);
+            Arrays.fill(squares, 0);
+            for (int shift = 0; shift <= 16; shift += 8) {
+                addSquaredDiffs(left, right, squares, shift);
+                addSquaredDiffs(up, down, squares, shift);
+            }
+            int start = y * width + 1;
+            for (int i = 0; i < interior; i += 1) {
+                out[start + i] = squares[i];
+            }
+            for (int i = 0; i < interior; i += 1) {
+                out[start + i] = Math.sqrt(out[start + i]);
+            }
+        }
+    }
+
+    /**
+     * Adds the squared difference between one 8-bit color component of each pair of pixels. Each call handles a
+     * single component so that every value loaded is used once, which keeps the loop simple enough to vectorize.
+     *
+     * @param a       the first pixel of each pair.
+     * @param b       the second pixel of each pair.
+     * @param squares the sums of squared differences to add to.
+     * @param shift   the bit offset of the color component: 16 for red, 8 for green, or 0 for blue.
+     */
+    private static void addSquaredDiffs(int[] a, int[] b, int[] squares, int shift) {
+        for (int i = 0; i < squares.length; i += 1) {
+            int diff = ((a[i] >> shift) & 0xFF) - ((b[i] >> shift) & 0xFF);
+            squares[i] += diff * diff;
+        }
+    }
+
+    /**
+     * Returns the sum of the horizontal and vertical derivatives for the (x, y) pixel in the row-major pixel array.
+     *
+     * @param pixels the row-major pixel array.
+     * @param stride the distance in the pixel array between the start of one row and the next.
+     * @param width  the width of the picture.
+     * @param height the height of the picture.
+     * @param x      the x-index into the picture.
+     * @param y      the y-index into the picture.
+     * @return the sum of the horizontal and vertical derivatives for the (x, y) pixel.
+     */
+    private static int squaredGradient(int[] pixels, int stride, int width, int height, int x, int y) {
+        int i = y * stride + x;
+        int horizontal;
+        if (x == 0) {
+            horizontal = forwardDiff(pixels[i], pixels[i + 1], pixels[i + 2]);
+        } else if (x == width - 1) {
+            horizontal = forwardDiff(pixels[i], pixels[i - 1], pixels[i - 2]);
+        } else {
+            horizontal = centralDiff(pixels[i - 1], pixels[i + 1]);
+        }
+        int vertical;
+        if (y == 0) {
+            vertical = forwardDiff(pixels[i], pixels[i + stride], pixels[i + 2 * stride]);
+        } else if (y == height - 1) {
+            vertical = forwardDiff(pixels[i], pixels[i - stride], pixels[i - 2 * stride]);
+        } else {
+            vertical = centralDiff(pixels[i - stride], pixels[i + stride]);
+        }
+        return horizontal + vertical;
+    }
 }
@@ -3,9 +3,15 @@ package seamfinding.energy;
 import seamfinding.Picture;
 
 /**
- * Determines the energy of a given (x, y) pixel index in a {@link Picture}.
+ * Determines the energy of a given (x, y) pixel index in a {@link Picture}. Seam finders evaluate every pixel at once
+ * with {@link #applyAll(Picture, double[])}, which implementations can override to share work between neighboring
+ * pixels.
  *
  * @see DualGradientEnergyFunction
+ * @see SobelEnergyFunction
+ * @see ScharrEnergyFunction
+ * @see EntropyEnergyFunction
+ * @see SaliencyEnergyFunction
  * @see Picture
  */
 public interface EnergyFunction {
@@ -18,4 +24,37 @@ public interface EnergyFunction {
      * @return the energy of pixel (x, y) in the given picture.
      */
     double apply(Picture picture, int x, int y);
+
+    /**
+     * Computes the energy of every pixel in the picture into the row-major output array, where the energy of pixel
+     * (x, y) is stored at index {@code y * width + x}. By default, calls {@link #apply(Picture, int, int)} for each
+     * pixel. Implementations that override this must give the same result for each pixel.
+     *
+     * @param picture the input picture.
+     * @param out     the destination for the energy of every pixel.
+     * @throws IllegalArgumentException if the output array is smaller than the picture.
+     */
+    default void applyAll(Picture picture, double[] out) {
+        int width = picture.width();
+        int height = picture.height();
+        if (out.length < width * height) {
+            throw new IllegalArgumentException("Output must have room for every pixel");
+        }
+        for (int y = 0; y < height; y += 1) {
+            for (int x = 0; x < width; x += 1) {
+                out[y * width + x] = apply(picture, x, y);
+            }
+        }
+    }
+
+    /**
+     * Returns the maximum distance along either axis from a pixel to any other pixel whose color can affect its
+     * energy. By default, 2, which covers the forward differences of the {@link DualGradientEnergyFunction} at the
+     * edges of the picture.
+     *
+     * @return the maximum distance from a pixel to any other pixel whose color can affect its energy.
+     */
+    default int radius() {
+        return 2;
+    }
 }
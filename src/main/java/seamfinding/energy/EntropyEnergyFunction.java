@@ -0,0 +1,105 @@
+package seamfinding.energy;
+
+import seamfinding.Picture;
+
+/**
+ * Local entropy implementation of the {@link EnergyFunction} interface: the Shannon entropy, in bits, of the histogram
+ * of luminance in the square window around each pixel. Textured regions have high entropy even where their gradients
+ * are small, so seams avoid them. The histogram of every window is counted at once by convolving an indicator of each
+ * luminance bin with a separable box filter.
+ *
+ * @see EnergyFunction
+ */
+public class EntropyEnergyFunction implements EnergyFunction {
+    /**
+     * Distance from each pixel to the edges of its window.
+     */
+    private static final int WINDOW_RADIUS = 2;
+    /**
+     * Number of pixels in each window.
+     */
+    private static final int WINDOW_SIZE = (2 * WINDOW_RADIUS + 1) * (2 * WINDOW_RADIUS + 1);
+    /**
+     * Number of equal ranges of luminance counted by each histogram.
+     */
+    private static final int BINS = 16;
+    /**
+     * Kernel that counts the values in each window along one axis.
+     */
+    private static final float[] BOX = {1, 1, 1, 1, 1};
+    /**
+     * Contribution to the entropy of a bin containing each possible number of pixels in a window.
+     */
+    private static final double[] TERMS = new double[WINDOW_SIZE + 1];
+
+    static {
+        for (int count = 1; count <= WINDOW_SIZE; count += 1) {
+            double p = (double) count / WINDOW_SIZE;
+            TERMS[count] = -p * Math.log(p) / Math.log(2);
+        }
+    }
+
+    @Override
+    public double apply(Picture picture, int x, int y) {
+        Convolution.checkBounds(picture, x, y);
+        int[] counts = new int[BINS];
+        for (int j = -WINDOW_RADIUS; j <= WINDOW_RADIUS; j += 1) {
+            for (int i = -WINDOW_RADIUS; i <= WINDOW_RADIUS; i += 1) {
+                int rgb = picture.get(Convolution.clamp(x + i, picture.width()), Convolution.clamp(y + j,
+                        picture.height()));
+                counts[bin(Convolution.luminance(rgb))] += 1;
+            }
+        }
+        double result = 0.0;
+        for (int count : counts) {
+            result += TERMS[count];
+        }
+        return result;
+    }
+
+    @Override
+    public void applyAll(Picture picture, double[] out) {
+        Convolution.checkOutput(picture, out);
+        int width = picture.width();
+        int height = picture.height();
+        float[] luminance = Convolution.luminance(picture);
+        int[] bins = new int[width * height];
+        boolean[] present = new boolean[BINS];
+        for (int i = 0; i < width * height; i += 1) {
+            bins[i] = bin(luminance[i]);
+            present[bins[i]] = true;
+        }
+        for (int i = 0; i < width * height; i += 1) {
+            out[i] = 0.0;
+        }
+        float[] indicator = new float[width * height];
+        // Bins without any pixels add nothing to any window
+        for (int bin = 0; bin < BINS; bin += 1) {
+            if (present[bin]) {
+                for (int i = 0; i < width * height; i += 1) {
+                    indicator[i] = bins[i] == bin ? 1 : 0;
+                }
+                float[] counts = Convolution.convolve(indicator, width, height, BOX, BOX);
+                for (int i = 0; i < width * height; i += 1) {
+                    // Counts of whole pixels are exact in single precision
+                    out[i] += TERMS[(int) counts[i]];
+                }
+            }
+        }
+    }
+
+    @Override
+    public int radius() {
+        return WINDOW_RADIUS;
+    }
+
+    /**
+     * Returns the histogram bin containing the luminance.
+     *
+     * @param luminance the luminance, from 0 to 255.
+     * @return the histogram bin containing the luminance.
+     */
+    private static int bin(float luminance) {
+        return Math.min(BINS - 1, (int) (luminance * BINS / 256));
+    }
+}
@@ -0,0 +1,66 @@
+package seamfinding.energy;
+
+import seamfinding.Picture;
+
+/**
+ * Gradient magnitude of the luminance of a {@link Picture}, where each derivative is a central difference along one
+ * axis smoothed by a kernel along the other axis. Both derivatives are computed with separable convolution passes.
+ *
+ * @see SobelEnergyFunction
+ * @see ScharrEnergyFunction
+ */
+abstract class GradientEnergyFunction implements EnergyFunction {
+    /**
+     * Kernel for the central difference along one axis.
+     */
+    private static final float[] DIFFERENCE = {-1, 0, 1};
+    /**
+     * Kernel for smoothing along the other axis.
+     */
+    private final float[] smoothing;
+
+    /**
+     * Constructs a gradient energy function with the given 3-element smoothing kernel.
+     *
+     * @param smoothing the kernel for smoothing each derivative across its axis.
+     */
+    GradientEnergyFunction(float[] smoothing) {
+        this.smoothing = smoothing;
+    }
+
+    @Override
+    public double apply(Picture picture, int x, int y) {
+        Convolution.checkBounds(picture, x, y);
+        return magnitude(Convolution.convolve(picture, x, y, DIFFERENCE, smoothing),
+                Convolution.convolve(picture, x, y, smoothing, DIFFERENCE));
+    }
+
+    @Override
+    public void applyAll(Picture picture, double[] out) {
+        Convolution.checkOutput(picture, out);
+        int width = picture.width();
+        int height = picture.height();
+        float[] luminance = Convolution.luminance(picture);
+        float[] horizontal = Convolution.convolve(luminance, width, height, DIFFERENCE, smoothing);
+        float[] vertical = Convolution.convolve(luminance, width, height, smoothing, DIFFERENCE);
+        for (int i = 0; i < width * height; i += 1) {
+            out[i] = magnitude(horizontal[i], vertical[i]);
+        }
+    }
+
+    @Override
+    public int radius() {
+        return 1;
+    }
+
+    /**
+     * Returns the magnitude of the gradient with the given derivatives.
+     *
+     * @param dx the horizontal derivative.
+     * @param dy the vertical derivative.
+     * @return the magnitude of the gradient.
+     */
+    private static double magnitude(float dx, float dy) {
+        return Math.sqrt((double) dx * dx + (double) dy * dy);
+    }
+}
@@ -0,0 +1,49 @@
+package seamfinding.energy;
+
+import seamfinding.Picture;
+
+/**
+ * Center-surround saliency implementation of the {@link EnergyFunction} interface: the difference between the
+ * luminance around each pixel at a fine scale and at a coarse scale, each computed with separable binomial blurs.
+ * Pixels that stand out from their surroundings have high saliency, so seams avoid them even where their edges are
+ * soft.
+ *
+ * @see EnergyFunction
+ */
+public class SaliencyEnergyFunction implements EnergyFunction {
+    /**
+     * Binomial kernel for the fine-scale blur of the center.
+     */
+    private static final float[] CENTER = {1 / 4f, 2 / 4f, 1 / 4f};
+    /**
+     * Binomial kernel for the coarse-scale blur of the surroundings.
+     */
+    private static final float[] SURROUND = {
+            1 / 256f, 8 / 256f, 28 / 256f, 56 / 256f, 70 / 256f, 56 / 256f, 28 / 256f, 8 / 256f, 1 / 256f
+    };
+
+    @Override
+    public double apply(Picture picture, int x, int y) {
+        Convolution.checkBounds(picture, x, y);
+        return Math.abs(Convolution.convolve(picture, x, y, CENTER, CENTER)
+                - Convolution.convolve(picture, x, y, SURROUND, SURROUND));
+    }
+
+    @Override
+    public void applyAll(Picture picture, double[] out) {
+        Convolution.checkOutput(picture, out);
+        int width = picture.width();
+        int height = picture.height();
+        float[] luminance = Convolution.luminance(picture);
+        float[] center = Convolution.convolve(luminance, width, height, CENTER, CENTER);
+        float[] surround = Convolution.convolve(luminance, width, height, SURROUND, SURROUND);
+        for (int i = 0; i < width * height; i += 1) {
+            out[i] = Math.abs(center[i] - surround[i]);
+        }
+    }
+
+    @Override
+    public int radius() {
+        return SURROUND.length / 2;
+    }
+}
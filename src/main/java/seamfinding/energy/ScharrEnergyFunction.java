@@ -0,0 +1,18 @@
+package seamfinding.energy;
+
+/**
+ * Scharr implementation of the {@link EnergyFunction} interface: the gradient magnitude of the luminance, where each
+ * derivative is smoothed across its axis by the kernel (3, 10, 3). Compared to the {@link SobelEnergyFunction}, the
+ * gradient is closer to the same magnitude for edges in every direction.
+ *
+ * @see EnergyFunction
+ * @see SobelEnergyFunction
+ */
+public class ScharrEnergyFunction extends GradientEnergyFunction {
+    /**
+     * Constructs a Scharr energy function.
+     */
+    public ScharrEnergyFunction() {
+        super(new float[]{3, 10, 3});
+    }
+}
@@ -0,0 +1,17 @@
+package seamfinding.energy;
+
+/**
+ * Sobel implementation of the {@link EnergyFunction} interface: the gradient magnitude of the luminance, where each
+ * derivative is smoothed across its axis by the kernel (1, 2, 1).
+ *
+ * @see EnergyFunction
+ * @see ScharrEnergyFunction
+ */
+public class SobelEnergyFunction extends GradientEnergyFunction {
+    /**
+     * Constructs a Sobel energy function.
+     */
+    public SobelEnergyFunction() {
+        super(new float[]{1, 2, 1});
+    }
+}
@@ -0,0 +1,143 @@
+import graphs.shortestpaths.BucketDistanceMatrix;
+import graphs.shortestpaths.DeltaSteppingSolver;
+import graphs.shortestpaths.DijkstraDistanceMatrix;
+import graphs.shortestpaths.DijkstraSolver;
+import graphs.shortestpaths.DistanceMatrix;
+import minpq.DoubleMapMinPQ;
+import minpq.LazyHeapMinPQ;
+import minpq.MinPQ;
+import minpq.OptimizedHeapMinPQ;
+import org.junit.jupiter.api.*;
+import org.locationtech.spatial4j.context.SpatialContext;
+import org.locationtech.spatial4j.shape.Point;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Runtime experiments for the {@link MapGraph} class. Requires the {@code seattle.osm.gz} resource.
+ *
+ * @see MapGraph
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class MapGraphTests {
+    /**
+     * The OpenStreetMap XML file path.
+     */
+    private static final String OSM_DB_PATH = "seattle.osm.gz";
+    /**
+     * The place-importance TSV data file path from OpenStreetMap.
+     */
+    private static final String PLACES_PATH = "places.tsv";
+
+    @Nested
+    @Disabled
+    class RuntimeExperiments {
+        /**
+         * Number of random routes per implementation run. Making this smaller means experiments run faster.
+         */
+        private static final int NUM_TRIALS = 100;
+        /**
+         * Number of random start vertices for computing entire shortest paths trees.
+         */
+        private static final int NUM_TREES = 10;
+        /**
+         * Number of sources and number of targets for computing distance matrices.
+         */
+        private static final int MATRIX_SIZE = 20;
+
+        @Test
+        void shortestPathsByMinPQ() throws Exception {
+            Map<String, MinPQ.Constructor<Point>> implementations = new LinkedHashMap<>();
+            implementations.put("DoubleMapMinPQ", DoubleMapMinPQ::new);
+            implementations.put("OptimizedHeapMinPQ", OptimizedHeapMinPQ::new);
+            implementations.put("LazyHeapMinPQ", LazyHeapMinPQ::new);
+
+            List<Point> routes = null;
+            for (Map.Entry<String, MinPQ.Constructor<Point>> entry : implementations.entrySet()) {
+                MapGraph map = new MapGraph(OSM_DB_PATH, PLACES_PATH, SpatialContext.GEO, entry.getValue());
+                if (routes == null) {
+                    // Snap the random endpoints once so that closest is not included in the measurements
+                    routes = randomEndpoints(map, new SplittableRandom(373));
+                }
+                long totalTime = 0;
+                for (int i = 0; i < routes.size(); i += 2) {
+                    long start = System.nanoTime();
+                    map.shortestPath(routes.get(i), routes.get(i + 1));
+                    totalTime += System.nanoTime() - start;
+                }
+                System.out.print(entry.getKey());
+                System.out.print(',');
+                System.out.printf("%.0f", totalTime / (double) NUM_TRIALS);
+                System.out.println();
+            }
+        }
+
+        @Test
+        void shortestPathTreesByParallelism() throws Exception {
+            MapGraph map = new MapGraph(OSM_DB_PATH, PLACES_PATH, SpatialContext.GEO);
+            List<Point> starts = randomEndpoints(map, new SplittableRandom(373)).subList(0, NUM_TREES);
+            long totalTime = 0;
+            for (Point start : starts) {
+                long begin = System.nanoTime();
+                new DijkstraSolver<>(map, start);
+                totalTime += System.nanoTime() - begin;
+            }
+            System.out.printf("DijkstraSolver,1,%.0f%n", totalTime / (double) NUM_TREES);
+            int maxThreads = Runtime.getRuntime().availableProcessors();
+            for (int threads = 1; threads <= maxThreads; threads *= 2) {
+                totalTime = 0;
+                for (Point start : starts) {
+                    long begin = System.nanoTime();
+                    new DeltaSteppingSolver<>(map, start, threads);
+                    totalTime += System.nanoTime() - begin;
+                }
+                System.out.printf("DeltaSteppingSolver,%d,%.0f%n", threads, totalTime / (double) NUM_TREES);
+            }
+        }
+
+        @Test
+        void distanceMatricesByImplementation() throws Exception {
+            MapGraph map = new MapGraph(OSM_DB_PATH, PLACES_PATH, SpatialContext.GEO);
+            List<Point> endpoints = randomEndpoints(map, new SplittableRandom(373));
+            List<Point> sources = endpoints.subList(0, MATRIX_SIZE);
+            List<Point> targets = endpoints.subList(MATRIX_SIZE, 2 * MATRIX_SIZE);
+            long start = System.nanoTime();
+            for (Point source : sources) {
+                for (Point target : targets) {
+                    map.shortestPath(source, target);
+                }
+            }
+            System.out.printf("AStarSolver,%.0f%n", (System.nanoTime() - start) / 1e6);
+
+            Map<String, DistanceMatrix.Constructor<Point>> implementations = new LinkedHashMap<>();
+            implementations.put("DijkstraDistanceMatrix", DijkstraDistanceMatrix::new);
+            implementations.put("BucketDistanceMatrix", BucketDistanceMatrix::new);
+            for (Map.Entry<String, DistanceMatrix.Constructor<Point>> entry : implementations.entrySet()) {
+                start = System.nanoTime();
+                entry.getValue().run(map, sources, targets);
+                System.out.printf("%s,%.0f%n", entry.getKey(), (System.nanoTime() - start) / 1e6);
+            }
+        }
+
+        /**
+         * Returns a list of start and goal vertex pairs randomly chosen within the bounds of Seattle.
+         *
+         * @param map      the {@link MapGraph} to snap points onto.
+         * @param spRandom the {@link SplittableRandom} instance for generating coordinates.
+         * @return a list of start and goal vertex pairs, alternating start then goal.
+         */
+        private List<Point> randomEndpoints(MapGraph map, SplittableRandom spRandom) {
+            List<Point> result = new ArrayList<>(2 * NUM_TRIALS);
+            for (int i = 0; i < 2 * NUM_TRIALS; i += 1) {
+                double lat = spRandom.nextDouble(47.50, 47.73);
+                double lon = spRandom.nextDouble(-122.44, -122.24);
+                result.add(map.closest(SpatialContext.GEO.getShapeFactory().pointLatLon(lat, lon)));
+            }
+            return result;
+        }
+    }
+}
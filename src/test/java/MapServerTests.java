@@ -0,0 +1,168 @@
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.javalin.http.BadRequestResponse;
+import org.junit.jupiter.api.Test;
+import org.locationtech.spatial4j.context.SpatialContext;
+import org.locationtech.spatial4j.shape.Point;
+import org.locationtech.spatial4j.shape.ShapeFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the request helpers in the {@link MapServer} class.
+ *
+ * @see MapServer
+ */
+public class MapServerTests {
+    private static final ShapeFactory SHAPES = SpatialContext.GEO.getShapeFactory();
+    private static final ObjectMapper JSON = new ObjectMapper();
+
+    @Test
+    void pointsParsesLonLatPairs() {
+        List<Point> points = MapServer.points("-122.3,47.6;-122.25,47.65;180,-90", SHAPES);
+        assertEquals(3, points.size());
+        assertEquals(-122.3, points.get(0).getLon());
+        assertEquals(47.6, points.get(0).getLat());
+        assertEquals(-122.25, points.get(1).getLon());
+        assertEquals(47.65, points.get(1).getLat());
+        assertEquals(180, points.get(2).getLon());
+        assertEquals(-90, points.get(2).getLat());
+    }
+
+    @Test
+    void pointsAllowsAtMostMaxPoints() {
+        StringJoiner joiner = new StringJoiner(";");
+        for (int i = 0; i < MapServer.MAX_MATRIX_POINTS; i += 1) {
+            joiner.add("-122.3," + (47 + i * 0.001));
+        }
+        assertEquals(MapServer.MAX_MATRIX_POINTS, MapServer.points(joiner.toString(), SHAPES).size());
+        joiner.add("-122.3,47.6");
+        assertThrows(BadRequestResponse.class, () -> MapServer.points(joiner.toString(), SHAPES));
+    }
+
+    @Test
+    void pointsMissingOrMalformedThrows() {
+        assertThrows(BadRequestResponse.class, () -> MapServer.points(null, SHAPES));
+        assertThrows(BadRequestResponse.class, () -> MapServer.points("", SHAPES));
+        assertThrows(BadRequestResponse.class, () -> MapServer.points("-122.3", SHAPES));
+        assertThrows(BadRequestResponse.class, () -> MapServer.points("-122.3,47.6,0", SHAPES));
+        assertThrows(BadRequestResponse.class, () -> MapServer.points("-122.3,47.6;west,north", SHAPES));
+        assertThrows(BadRequestResponse.class, () -> MapServer.points("-122.3,47.6;;-122.3,47.6", SHAPES));
+    }
+
+    @Test
+    void pointsOutOfRangeThrows() {
+        assertThrows(BadRequestResponse.class, () -> MapServer.points("0,95", SHAPES));
+        assertThrows(BadRequestResponse.class, () -> MapServer.points("0,-90.5", SHAPES));
+        assertThrows(BadRequestResponse.class, () -> MapServer.points("180.5,0", SHAPES));
+        assertThrows(BadRequestResponse.class, () -> MapServer.points("-181,0", SHAPES));
+        assertThrows(BadRequestResponse.class, () -> MapServer.points("NaN,47.6", SHAPES));
+        assertThrows(BadRequestResponse.class, () -> MapServer.points("-122.3,NaN", SHAPES));
+        assertThrows(BadRequestResponse.class, () -> MapServer.points("Infinity,47.6", SHAPES));
+        assertThrows(BadRequestResponse.class, () -> MapServer.points("-122.3,-Infinity", SHAPES));
+    }
+
+    @Test
+    void batchKeepsFirstOccurrenceOrder() {
+        for (boolean parallel : new boolean[]{false, true}) {
+            AtomicInteger lookups = new AtomicInteger();
+            Map<String, Integer> result = MapServer.batch("[\"c\", \"a\", \"c\", \"b\", \"a\", \"\"]", term -> {
+                lookups.incrementAndGet();
+                return term.length();
+            }, parallel);
+            assertEquals(List.of("c", "a", "b", ""), new ArrayList<>(result.keySet()));
+            assertEquals(List.of(1, 1, 1, 0), new ArrayList<>(result.values()));
+            assertEquals(4, lookups.get());
+            assertTrue(MapServer.batch("[]", String::length, parallel).isEmpty());
+        }
+    }
+
+    @Test
+    void batchAllowsAtMostMaxTerms() {
+        List<String> terms = new ArrayList<>();
+        for (int i = 0; i < MapServer.MAX_BATCH_TERMS; i += 1) {
+            terms.add("\"" + i + "\"");
+        }
+        String body = "[" + String.join(",", terms) + "]";
+        assertEquals(MapServer.MAX_BATCH_TERMS, MapServer.batch(body, String::length, true).size());
+        terms.add("\"0\"");
+        // Duplicates still count toward the limit
+        String tooMany = "[" + String.join(",", terms) + "]";
+        assertThrows(BadRequestResponse.class, () -> MapServer.batch(tooMany, String::length, true));
+    }
+
+    @Test
+    void batchNotArrayOfStringsThrows() {
+        for (String body : List.of("", "null", "{\"term\": \"a\"}", "\"a\"", "[\"a\", null]", "[\"a\", [\"b\"]]",
+                "[\"a\"")) {
+            assertThrows(BadRequestResponse.class, () -> MapServer.batch(body, String::length, false));
+        }
+    }
+
+    @Test
+    void writeRouteSplitsChunksAtBoundaries() throws IOException {
+        int chunkSize = 4;
+        for (int size = 1; size <= 3 * chunkSize + 2; size += 1) {
+            List<Point> route = new ArrayList<>(size);
+            for (int i = 0; i < size; i += 1) {
+                route.add(SHAPES.pointLatLon(47.6 + i * 0.001, -122.3 - i * 0.001));
+            }
+            List<JsonNode> lines = writeRoute(route, 12.5, chunkSize);
+            assertEquals(12.5, lines.get(0).get("distance").asDouble());
+            assertEquals(size, lines.get(0).get("nodes").asInt());
+            // Every chunk but the first starts with the last point of the previous chunk
+            int numChunks = Math.max(1, (size - 1 + chunkSize - 1) / chunkSize);
+            assertEquals(1 + numChunks, lines.size(), "route of " + size + " points");
+            for (int chunk = 0; chunk < numChunks; chunk += 1) {
+                int from = chunk * chunkSize;
+                int to = Math.min(from + chunkSize + 1, size);
+                double[] decoded = Polyline.decode(lines.get(1 + chunk).get("polyline").asText(),
+                        Polyline.DEFAULT_PRECISION);
+                assertEquals(2 * (to - from), decoded.length);
+                for (int i = from; i < to; i += 1) {
+                    assertEquals(route.get(i).getLat(), decoded[2 * (i - from)], 1e-5);
+                    assertEquals(route.get(i).getLon(), decoded[2 * (i - from) + 1], 1e-5);
+                }
+            }
+        }
+    }
+
+    @Test
+    void writeRouteEmptyRoute() throws IOException {
+        List<JsonNode> lines = writeRoute(List.of(), 0.0, 4);
+        assertEquals(2, lines.size());
+        assertEquals(0.0, lines.get(0).get("distance").asDouble());
+        assertEquals(0, lines.get(0).get("nodes").asInt());
+        assertEquals("", lines.get(1).get("polyline").asText());
+    }
+
+    /**
+     * Returns each line written by {@link MapServer#writeRoute(java.io.OutputStream, List, double, int)} as JSON.
+     *
+     * @param route     the list of route points.
+     * @param meters    the total distance of the route in meters.
+     * @param chunkSize the number of route segments in each line.
+     * @return each line of the streamed route as JSON.
+     * @throws IOException if the route cannot be written or a line is not valid JSON.
+     */
+    private static List<JsonNode> writeRoute(List<Point> route, double meters, int chunkSize) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        MapServer.writeRoute(out, route, meters, chunkSize);
+        String text = out.toString(StandardCharsets.UTF_8);
+        assertTrue(text.endsWith("\n"));
+        List<JsonNode> result = new ArrayList<>();
+        for (String line : text.split("\n")) {
+            result.add(JSON.readTree(line));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,116 @@
+import org.junit.jupiter.api.Test;
+import org.locationtech.spatial4j.context.SpatialContext;
+import org.locationtech.spatial4j.shape.Point;
+import org.locationtech.spatial4j.shape.ShapeFactory;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link Polyline} class.
+ *
+ * @see Polyline
+ */
+public class PolylineTests {
+    private static final ShapeFactory SHAPES = SpatialContext.GEO.getShapeFactory();
+    private static final long SEED = 373;
+
+    @Test
+    void encodeKnownRoute() {
+        List<Point> route = List.of(
+                SHAPES.pointLatLon(38.5, -120.2),
+                SHAPES.pointLatLon(40.7, -120.95),
+                SHAPES.pointLatLon(43.252, -126.453)
+        );
+        assertEquals("_p~iF~ps|U_ulLnnqC_mqNvxq`@", Polyline.encode(route));
+        assertEquals("", Polyline.encode(List.of()));
+    }
+
+    @Test
+    void encodeEscapedMatchesURLEncoder() {
+        List<Point> route = randomRoute(new Random(SEED), 1000);
+        String unescaped = Polyline.encode(route);
+        StringBuilder escaped = new StringBuilder("prefix");
+        Polyline.encode(route, Polyline.DEFAULT_PRECISION, true, escaped);
+        assertEquals("prefix" + URLEncoder.encode(unescaped, StandardCharsets.UTF_8), escaped.toString());
+    }
+
+    @Test
+    void encodeIndicesMatchesPoints() {
+        Random random = new Random(SEED);
+        List<Point> points = randomRoute(random, 100);
+        double[] lats = new double[points.size()];
+        double[] lons = new double[points.size()];
+        for (int i = 0; i < points.size(); i += 1) {
+            lats[i] = points.get(i).getLat();
+            lons[i] = points.get(i).getLon();
+        }
+        int[] route = random.ints(500, 0, points.size()).toArray();
+        List<Point> expected = new ArrayList<>();
+        for (int v : route) {
+            expected.add(points.get(v));
+        }
+        for (boolean escape : new boolean[]{false, true}) {
+            StringBuilder fromPoints = new StringBuilder();
+            Polyline.encode(expected, 6, escape, fromPoints);
+            StringBuilder fromIndices = new StringBuilder();
+            Polyline.encode(route, lats, lons, 6, escape, fromIndices);
+            assertEquals(fromPoints.toString(), fromIndices.toString());
+        }
+    }
+
+    @Test
+    void decodeRoundTrips() {
+        Random random = new Random(SEED);
+        for (int precision : new int[]{5, 6}) {
+            List<Point> route = randomRoute(random, 1000);
+            StringBuilder encoded = new StringBuilder();
+            Polyline.encode(route, precision, false, encoded);
+            double[] decoded = Polyline.decode(encoded, precision);
+            assertEquals(2 * route.size(), decoded.length);
+            double tolerance = 0.5 / Math.pow(10, precision) + 1e-12;
+            for (int i = 0; i < route.size(); i += 1) {
+                assertEquals(route.get(i).getLat(), decoded[2 * i], tolerance);
+                assertEquals(route.get(i).getLon(), decoded[2 * i + 1], tolerance);
+            }
+        }
+    }
+
+    @Test
+    void invalidPrecisionThrows() {
+        List<Point> route = List.of(SHAPES.pointLatLon(47.6, -122.3));
+        assertThrows(IllegalArgumentException.class, () -> Polyline.encode(route, -1, false, new StringBuilder()));
+        assertThrows(IllegalArgumentException.class, () -> Polyline.encode(route, 10, false, new StringBuilder()));
+        assertThrows(IllegalArgumentException.class, () -> Polyline.decode("??", 10));
+    }
+
+    @Test
+    void malformedPolylineThrows() {
+        // Truncated in the middle of a value
+        assertThrows(IllegalArgumentException.class, () -> Polyline.decode("_p~iF~ps|", 5));
+        // Odd number of coordinates
+        assertThrows(IllegalArgumentException.class, () -> Polyline.decode("_p~iF", 5));
+        // Characters outside of the encoding
+        assertThrows(IllegalArgumentException.class, () -> Polyline.decode("_p~iF%7E", 5));
+    }
+
+    /**
+     * Returns a random route of the given length in the area around Seattle.
+     *
+     * @param random the source of randomness.
+     * @param length the number of points in the route.
+     * @return a random route of the given length.
+     */
+    private static List<Point> randomRoute(Random random, int length) {
+        List<Point> result = new ArrayList<>(length);
+        for (int i = 0; i < length; i += 1) {
+            result.add(SHAPES.pointLatLon(47.5 + random.nextDouble() * 0.3, -122.4 + random.nextDouble() * 0.2));
+        }
+        return result;
+    }
+}
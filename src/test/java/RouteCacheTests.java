@@ -0,0 +1,105 @@
+import org.junit.jupiter.api.Test;
+import org.locationtech.spatial4j.context.SpatialContext;
+import org.locationtech.spatial4j.shape.Point;
+import org.locationtech.spatial4j.shape.ShapeFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link RouteCache} class.
+ *
+ * @see RouteCache
+ */
+public class RouteCacheTests {
+    private static final ShapeFactory SHAPES = SpatialContext.GEO.getShapeFactory();
+    /**
+     * Distinct points for building routes.
+     */
+    private static final Point[] POINTS = new Point[4];
+
+    static {
+        for (int i = 0; i < POINTS.length; i += 1) {
+            POINTS[i] = SHAPES.pointLatLon(47.6, -122.3 + i * 0.001);
+        }
+    }
+
+    @Test
+    void shortestPathReturnsCachedRoute() {
+        AtomicInteger computed = new AtomicInteger();
+        RouteCache routes = new RouteCache((start, goal) -> {
+            computed.incrementAndGet();
+            return List.of(start, goal);
+        }, 2);
+        Point a = POINTS[0];
+        Point b = POINTS[1];
+        List<Point> route = routes.shortestPath(a, b);
+        assertEquals(List.of(a, b), route);
+        assertSame(route, routes.shortestPath(a, b));
+        assertEquals(1, computed.get());
+
+        // The direction of the route is part of the key
+        assertEquals(List.of(b, a), routes.shortestPath(b, a));
+        assertEquals(2, computed.get());
+        assertThrows(UnsupportedOperationException.class, () -> route.add(a));
+    }
+
+    @Test
+    void shortestPathEvictsLeastRecentlyUsed() {
+        List<Point> computed = new ArrayList<>();
+        RouteCache routes = new RouteCache((start, goal) -> {
+            computed.add(start);
+            return List.of(start, goal);
+        }, 2);
+        Point goal = POINTS[3];
+        routes.shortestPath(POINTS[0], goal);
+        routes.shortestPath(POINTS[1], goal);
+        // Using the first route makes the second route the least recently used
+        routes.shortestPath(POINTS[0], goal);
+        routes.shortestPath(POINTS[2], goal);
+        assertEquals(List.of(POINTS[0], POINTS[1], POINTS[2]), computed);
+
+        routes.shortestPath(POINTS[0], goal);
+        routes.shortestPath(POINTS[2], goal);
+        assertEquals(3, computed.size());
+        routes.shortestPath(POINTS[1], goal);
+        assertEquals(List.of(POINTS[0], POINTS[1], POINTS[2], POINTS[1]), computed);
+    }
+
+    @Test
+    void shortestPathComputesConcurrentMissesOnce() throws Exception {
+        AtomicInteger computed = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        RouteCache routes = new RouteCache((start, goal) -> {
+            computed.incrementAndGet();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+            return List.of(start, goal);
+        }, 2);
+        int numThreads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(numThreads);
+        try {
+            List<Future<List<Point>>> results = new ArrayList<>();
+            for (int i = 0; i < numThreads; i += 1) {
+                results.add(executor.submit(() -> routes.shortestPath(POINTS[0], POINTS[1])));
+            }
+            // Give every thread time to join the in-flight computation before letting it finish
+            Thread.sleep(200);
+            release.countDown();
+            List<Point> first = results.get(0).get(10, TimeUnit.SECONDS);
+            for (Future<List<Point>> result : results) {
+                assertSame(first, result.get(10, TimeUnit.SECONDS));
+            }
+            assertEquals(1, computed.get());
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
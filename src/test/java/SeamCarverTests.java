@@ -0,0 +1,130 @@
+import org.junit.jupiter.api.Test;
+import seamfinding.ArrayPicture;
+import seamfinding.DynamicProgrammingSeamFinder;
+import seamfinding.Picture;
+import seamfinding.energy.DualGradientEnergyFunction;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link SeamCarver} class.
+ *
+ * @see SeamCarver
+ */
+public class SeamCarverTests {
+    /**
+     * The image file to carve.
+     */
+    private static final File FILE = new File("data/seamcarving/HJoceanSmall.png");
+
+    @Test
+    void removeVerticalSeamsInOriginalCoordinates() throws IOException {
+        SeamCarver carver = new SeamCarver(FILE, new DualGradientEnergyFunction(), new DynamicProgrammingSeamFinder());
+        Picture before = new ArrayPicture(carver.picture());
+        List<List<Integer>> seams = carver.removeVertical(50);
+        assertEquals(50, seams.size());
+        checkRemoved(before, carver.picture(), seams);
+    }
+
+    @Test
+    void removeHorizontalSeamsInOriginalCoordinates() throws IOException {
+        SeamCarver carver = new SeamCarver(FILE, new DualGradientEnergyFunction(), new DynamicProgrammingSeamFinder());
+        carver.removeHorizontal();
+        Picture before = new ArrayPicture(carver.picture());
+        List<List<Integer>> seams = carver.removeHorizontal(30, false);
+        assertEquals(30, seams.size());
+        checkRemoved(before.transposed(), carver.picture().transposed(), seams);
+        assertThrows(IllegalArgumentException.class, () -> carver.removeHorizontal(carver.picture().height()));
+        assertThrows(IllegalArgumentException.class, () -> carver.removeVertical(-1));
+    }
+
+    @Test
+    void insertVerticalSeamsDuplicatesRemovedSeams() throws IOException {
+        SeamCarver carver = new SeamCarver(FILE, new DualGradientEnergyFunction(), new DynamicProgrammingSeamFinder());
+        Picture before = new ArrayPicture(carver.picture());
+        List<List<Integer>> seams = carver.insertVertical(40);
+        SeamCarver remover = new SeamCarver(FILE, new DualGradientEnergyFunction(), new DynamicProgrammingSeamFinder());
+        assertEquals(remover.removeVertical(40), seams);
+        checkInserted(before, carver.picture(), seams);
+
+        // The energies of the enlarged picture are used for the next seams
+        carver.removeVertical();
+        assertEquals(before.width() + 39, carver.picture().width());
+    }
+
+    @Test
+    void insertHorizontalSeamsDuplicatesRemovedSeams() throws IOException {
+        SeamCarver carver = new SeamCarver(FILE, new DualGradientEnergyFunction(), new DynamicProgrammingSeamFinder());
+        Picture before = new ArrayPicture(carver.picture());
+        List<List<Integer>> seams = carver.insertHorizontal(before.height() - 3);
+        checkInserted(before.transposed(), carver.picture().transposed(), seams);
+        assertThrows(IllegalArgumentException.class, () -> carver.insertHorizontal(carver.picture().height()));
+        assertThrows(IllegalArgumentException.class, () -> carver.insertVertical(-1));
+    }
+
+    /**
+     * Checks that the picture after inserting the vertical seams is the picture before with each pixel of every seam
+     * followed by the average of itself and the next pixel in its row, or the previous pixel at the end of the row.
+     *
+     * @param before the picture before inserting the seams.
+     * @param after  the picture after inserting the seams.
+     * @param seams  the inserted vertical seams in the coordinates of the picture before inserting them.
+     */
+    private static void checkInserted(Picture before, Picture after, List<List<Integer>> seams) {
+        assertEquals(before.width() + seams.size(), after.width());
+        assertEquals(before.height(), after.height());
+        for (int y = 0; y < before.height(); y += 1) {
+            Set<Integer> duplicated = new HashSet<>();
+            for (List<Integer> seam : seams) {
+                assertTrue(duplicated.add(seam.get(y)), "Pixel inserted twice in row " + y);
+            }
+            int x = 0;
+            for (int original = 0; original < before.width(); original += 1) {
+                int rgb = before.get(original, y);
+                assertEquals(rgb, after.get(x, y));
+                x += 1;
+                if (duplicated.contains(original)) {
+                    int neighbor = before.get(original < before.width() - 1 ? original + 1 : original - 1, y);
+                    for (int shift = 0; shift < 24; shift += 8) {
+                        int expected = (((rgb >> shift) & 0xFF) + ((neighbor >> shift) & 0xFF)) / 2;
+                        assertEquals(expected, (after.get(x, y) >> shift) & 0xFF);
+                    }
+                    x += 1;
+                }
+            }
+        }
+    }
+
+    /**
+     * Checks that the picture after removing the vertical seams is the picture before with the pixels of every seam
+     * removed.
+     *
+     * @param before the picture before removing the seams.
+     * @param after  the picture after removing the seams.
+     * @param seams  the removed vertical seams in the coordinates of the picture before removing them.
+     */
+    private static void checkRemoved(Picture before, Picture after, List<List<Integer>> seams) {
+        assertEquals(before.width() - seams.size(), after.width());
+        assertEquals(before.height(), after.height());
+        for (int y = 0; y < before.height(); y += 1) {
+            Set<Integer> removed = new HashSet<>();
+            for (List<Integer> seam : seams) {
+                assertEquals(before.height(), seam.size());
+                assertTrue(removed.add(seam.get(y)), "Pixel removed twice in row " + y);
+            }
+            int x = 0;
+            for (int original = 0; original < before.width(); original += 1) {
+                if (!removed.contains(original)) {
+                    assertEquals(before.get(original, y), after.get(x, y));
+                    x += 1;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,112 @@
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link SingleFlight} class.
+ *
+ * @see SingleFlight
+ */
+public class SingleFlightTests {
+
+    @Test
+    void runSharesInFlightTask() {
+        SingleFlight<String, Integer> flights = new SingleFlight<>();
+        AtomicInteger started = new AtomicInteger();
+        CompletableFuture<Integer> task = new CompletableFuture<>();
+        List<CompletableFuture<Integer>> results = new ArrayList<>();
+        for (int i = 0; i < 10; i += 1) {
+            results.add(flights.run("key", () -> {
+                started.incrementAndGet();
+                return task;
+            }));
+        }
+        assertEquals(1, started.get());
+        assertEquals(1, flights.size());
+        task.complete(373);
+        for (CompletableFuture<Integer> result : results) {
+            assertEquals(373, result.join());
+        }
+        assertEquals(0, flights.size());
+
+        // Completed tasks are not cached
+        assertEquals(374, flights.run("key", () -> CompletableFuture.completedFuture(374)).join());
+    }
+
+    @Test
+    void runKeepsKeysSeparate() {
+        SingleFlight<String, Integer> flights = new SingleFlight<>();
+        CompletableFuture<Integer> a = flights.run("a", CompletableFuture::new);
+        CompletableFuture<Integer> b = flights.run("b", () -> CompletableFuture.completedFuture(2));
+        assertNotSame(a, b);
+        assertEquals(2, b.join());
+        assertEquals(1, flights.size());
+    }
+
+    @Test
+    void runPropagatesFailureToEveryWaiter() {
+        SingleFlight<String, Integer> flights = new SingleFlight<>();
+        CompletableFuture<Integer> task = new CompletableFuture<>();
+        CompletableFuture<Integer> first = flights.run("key", () -> task);
+        CompletableFuture<Integer> second = flights.run("key", () -> task);
+        task.completeExceptionally(new IllegalStateException("upstream"));
+        assertThrows(CompletionException.class, first::join);
+        assertThrows(CompletionException.class, second::join);
+        assertEquals(0, flights.size());
+
+        // A task that throws before returning a future fails only its own flight
+        CompletableFuture<Integer> thrown = flights.run("key", () -> {
+            throw new IllegalArgumentException();
+        });
+        assertThrows(CompletionException.class, thrown::join);
+        assertEquals(0, flights.size());
+    }
+
+    @Test
+    void joinRunsConcurrentCallsOnce() throws Exception {
+        SingleFlight<String, Integer> flights = new SingleFlight<>();
+        AtomicInteger started = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        int numThreads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(numThreads);
+        try {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int i = 0; i < numThreads; i += 1) {
+                results.add(executor.submit(() -> flights.join("key", () -> {
+                    started.incrementAndGet();
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        throw new IllegalStateException(e);
+                    }
+                    return 373;
+                })));
+            }
+            // Give every thread time to join the flight before letting it finish
+            Thread.sleep(200);
+            release.countDown();
+            for (Future<Integer> result : results) {
+                assertEquals(373, result.get());
+            }
+            assertEquals(1, started.get());
+            assertEquals(0, flights.size());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void joinRethrowsTaskException() {
+        SingleFlight<String, Integer> flights = new SingleFlight<>();
+        assertThrows(IllegalStateException.class, () -> flights.join("key", () -> {
+            throw new IllegalStateException();
+        }));
+        assertEquals(0, flights.size());
+        assertEquals(373, flights.join("key", () -> 373));
+    }
+}
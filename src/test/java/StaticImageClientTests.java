@@ -0,0 +1,70 @@
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link StaticImageClient} class using a local {@link StubImageServer}.
+ *
+ * @see StaticImageClient
+ */
+public class StaticImageClientTests {
+    /**
+     * Client with short timeouts suitable for a local server.
+     */
+    private final StaticImageClient client = new StaticImageClient(Duration.ofSeconds(1), Duration.ofMillis(500));
+
+    @Test
+    void fetchReturnsImage() throws Exception {
+        try (StubImageServer server = new StubImageServer(0, 200, Duration.ZERO)) {
+            byte[] image = client.fetch(server.uri("/styles/v1/mapbox/static/0,0,0/1x1")).get();
+            assertArrayEquals(StubImageServer.IMAGE, image);
+        }
+    }
+
+    @Test
+    void fetchFailsOnErrorStatus() throws Exception {
+        try (StubImageServer server = new StubImageServer(0, 401, Duration.ZERO)) {
+            CompletableFuture<byte[]> image = client.fetch(server.uri("/?access_token=secret"));
+            ExecutionException e = assertThrows(ExecutionException.class, image::get);
+            assertTrue(e.getCause() instanceof IOException);
+            assertFalse(e.getCause().getMessage().contains("secret"));
+        }
+    }
+
+    @Test
+    void fetchTimesOut() throws Exception {
+        try (StubImageServer server = new StubImageServer(0, 200, Duration.ofSeconds(3))) {
+            CompletableFuture<byte[]> image = client.fetch(server.uri("/"));
+            ExecutionException e = assertThrows(ExecutionException.class, image::get);
+            assertTrue(e.getCause() instanceof HttpTimeoutException);
+        }
+    }
+
+    @Test
+    void concurrentFetchesDoNotWaitForEachOther() throws Exception {
+        int numRequests = 20;
+        Duration delay = Duration.ofMillis(200);
+        // Allow extra time for opening many connections at once on a busy machine
+        StaticImageClient client = new StaticImageClient(Duration.ofSeconds(5), Duration.ofSeconds(5));
+        try (StubImageServer server = new StubImageServer(0, 200, delay)) {
+            long start = System.nanoTime();
+            List<CompletableFuture<byte[]>> images = new ArrayList<>();
+            for (int i = 0; i < numRequests; i += 1) {
+                images.add(client.fetch(server.uri("/" + i)));
+            }
+            for (CompletableFuture<byte[]> image : images) {
+                assertArrayEquals(StubImageServer.IMAGE, image.get());
+            }
+            // Sequential fetches would take at least the sum of the delays
+            assertTrue(System.nanoTime() - start < numRequests * delay.toNanos() / 2);
+        }
+    }
+}
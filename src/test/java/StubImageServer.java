@@ -0,0 +1,94 @@
+import com.sun.net.httpserver.HttpServer;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Local stand-in for the static image API that responds to every request with the same PNG image. Run {@link #main}
+ * and set the {@code STATIC_IMAGE_URL} environment variable to {@code http://localhost:8081/} to run the
+ * {@link MapServer} without network access.
+ *
+ * @see StaticImageClient
+ */
+public class StubImageServer implements AutoCloseable {
+    /**
+     * The PNG image served for every request.
+     */
+    public static final byte[] IMAGE = png(new BufferedImage(2, 2, BufferedImage.TYPE_INT_RGB));
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    /**
+     * Starts a stub server on the given port that responds with the given status after the given delay.
+     *
+     * @param port   the port, or 0 for any free port.
+     * @param status the HTTP status code for every response.
+     * @param delay  the delay before sending each response.
+     * @throws IOException if the server cannot be started.
+     */
+    public StubImageServer(int port, int status, Duration delay) throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", port), 0);
+        server.createContext("/", exchange -> {
+            try {
+                Thread.sleep(delay.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.getResponseHeaders().set("Content-Type", "image/png");
+            exchange.sendResponseHeaders(status, IMAGE.length);
+            try (OutputStream body = exchange.getResponseBody()) {
+                body.write(IMAGE);
+            }
+        });
+        // Serve requests concurrently so that delayed responses do not queue behind each other
+        executor = Executors.newCachedThreadPool();
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    /**
+     * Returns the URI for the given path on this server.
+     *
+     * @param path the path, starting with a slash.
+     * @return the URI for the given path on this server.
+     */
+    public URI uri(String path) {
+        return URI.create("http://localhost:" + server.getAddress().getPort() + path);
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    /**
+     * Returns the image encoded as a PNG.
+     *
+     * @param image the image.
+     * @return the image encoded as a PNG.
+     */
+    private static byte[] png(BufferedImage image) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try {
+            ImageIO.write(image, "png", out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    public static void main(String[] args) throws IOException {
+        new StubImageServer(8081, 200, Duration.ZERO);
+        System.out.println("Serving stub images on http://localhost:8081/");
+    }
+}
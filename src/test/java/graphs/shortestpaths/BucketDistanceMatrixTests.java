@@ -0,0 +1,29 @@
+package graphs.shortestpaths;
+
+import graphs.Graph;
+import org.junit.jupiter.api.Nested;
+
+import java.util.List;
+
+/**
+ * Tests for the {@link BucketDistanceMatrix} class.
+ *
+ * @see BucketDistanceMatrix
+ */
+public class BucketDistanceMatrixTests extends DistanceMatrixTests {
+    @Override
+    public <V> DistanceMatrix<V> createDistanceMatrix(Graph<V> graph, List<V> sources, List<V> targets) {
+        return new BucketDistanceMatrix<>(graph, sources, targets);
+    }
+
+    /**
+     * Tests using tiny backward balls so that most paths cross into a ball along an edge.
+     */
+    @Nested
+    public class WithSmallBalls extends DistanceMatrixTests {
+        @Override
+        public <V> DistanceMatrix<V> createDistanceMatrix(Graph<V> graph, List<V> sources, List<V> targets) {
+            return new BucketDistanceMatrix<>(graph, sources, targets, 2);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package graphs.shortestpaths;
+
+import graphs.Edge;
+import graphs.Graph;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Abstract class providing test cases for {@link ShortestPathSolver} implementations for directed acyclic graphs.
+ *
+ * @see ToposortDAGSolver
+ * @see ParallelToposortDAGSolver
+ */
+public abstract class DAGSolverTests {
+    /**
+     * Number of vertices in the long ladder graph, which is enough to overflow the stack of a recursive traversal.
+     */
+    private static final int LADDER_SIZE = 1_000_000;
+
+    /**
+     * Returns a {@link ShortestPathSolver} for the given graph and start vertex.
+     *
+     * @param graph the input graph.
+     * @param start the start vertex.
+     * @return a {@link ShortestPathSolver} for the given graph and start vertex.
+     */
+    public abstract <V> ShortestPathSolver<V> createSolver(Graph<V> graph, V start);
+
+    @Test
+    public void diamond() {
+        Map<Integer, List<Edge<Integer>>> adjacency = Map.of(
+                0, List.of(new Edge<>(0, 1, 1.0), new Edge<>(0, 2, 4.0)),
+                1, List.of(new Edge<>(1, 2, 1.0), new Edge<>(1, 3, 5.0)),
+                2, List.of(new Edge<>(2, 3, 1.0))
+        );
+        Graph<Integer> graph = v -> adjacency.getOrDefault(v, List.of());
+        ShortestPathSolver<Integer> solver = createSolver(graph, 0);
+        assertEquals(List.of(0), solver.solution(0));
+        assertEquals(List.of(0, 1, 2), solver.solution(2));
+        assertEquals(List.of(0, 1, 2, 3), solver.solution(3));
+        assertEquals(3.0, weight(graph, solver.solution(3)));
+    }
+
+    @Test
+    public void longLadder() {
+        // Each vertex has a unit edge to the next vertex and a more expensive edge that skips it, so the shortest path
+        // visits every vertex while the traversal also has to handle edges to vertices it has already visited
+        Graph<Integer> graph = v -> {
+            if (v + 2 < LADDER_SIZE) {
+                return List.of(new Edge<>(v, v + 1, 1.0), new Edge<>(v, v + 2, 2.5));
+            } else if (v + 1 < LADDER_SIZE) {
+                return List.of(new Edge<>(v, v + 1, 1.0));
+            }
+            return List.of();
+        };
+        ShortestPathSolver<Integer> solver = createSolver(graph, 0);
+        List<Integer> path = solver.solution(LADDER_SIZE - 1);
+        assertEquals(LADDER_SIZE, path.size());
+        for (int i = 0; i < LADDER_SIZE; i += 1) {
+            assertEquals(i, path.get(i));
+        }
+        assertEquals(LADDER_SIZE - 1, weight(graph, path));
+        assertEquals(List.of(0, 1, 2), solver.solution(2));
+    }
+
+    /**
+     * Returns the total weight of the path, using the lightest edge between each pair of consecutive vertices.
+     *
+     * @param graph the input graph.
+     * @param path  the list of vertices in the path.
+     * @return the total weight of the path.
+     */
+    private static double weight(Graph<Integer> graph, List<Integer> path) {
+        double result = 0.0;
+        for (int i = 1; i < path.size(); i += 1) {
+            double min = Double.POSITIVE_INFINITY;
+            for (Edge<Integer> edge : graph.neighbors(path.get(i - 1))) {
+                if (edge.to.equals(path.get(i))) {
+                    min = Math.min(min, edge.weight);
+                }
+            }
+            result += min;
+        }
+        return result;
+    }
+}
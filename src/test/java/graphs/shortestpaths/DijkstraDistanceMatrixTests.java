@@ -0,0 +1,17 @@
+package graphs.shortestpaths;
+
+import graphs.Graph;
+
+import java.util.List;
+
+/**
+ * Tests for the {@link DijkstraDistanceMatrix} class.
+ *
+ * @see DijkstraDistanceMatrix
+ */
+public class DijkstraDistanceMatrixTests extends DistanceMatrixTests {
+    @Override
+    public <V> DistanceMatrix<V> createDistanceMatrix(Graph<V> graph, List<V> sources, List<V> targets) {
+        return new DijkstraDistanceMatrix<>(graph, sources, targets);
+    }
+}
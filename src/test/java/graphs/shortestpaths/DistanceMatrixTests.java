@@ -0,0 +1,143 @@
+package graphs.shortestpaths;
+
+import graphs.Edge;
+import graphs.Graph;
+import graphs.IndexedGraph;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Abstract class providing test cases for all {@link DistanceMatrix} implementations.
+ *
+ * @see DistanceMatrix
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public abstract class DistanceMatrixTests {
+    /**
+     * Returns a {@link DistanceMatrix} for the given graph, sources, and targets.
+     *
+     * @param graph   the input graph.
+     * @param sources the source vertices.
+     * @param targets the target vertices.
+     * @return a {@link DistanceMatrix} for the given graph, sources, and targets.
+     */
+    public abstract <V> DistanceMatrix<V> createDistanceMatrix(Graph<V> graph, List<V> sources, List<V> targets);
+
+    @Test
+    public void singleVertex() {
+        Graph<Integer> graph = v -> List.of();
+        DistanceMatrix<Integer> matrix = createDistanceMatrix(graph, List.of(0), List.of(0, 1));
+        assertEquals(1, matrix.numSources());
+        assertEquals(2, matrix.numTargets());
+        assertEquals(0.0, matrix.distance(0, 0));
+        assertEquals(Double.POSITIVE_INFINITY, matrix.distance(0, 1));
+    }
+
+    @Test
+    public void randomGraph() {
+        Random random = new Random(373);
+        Map<Integer, List<Edge<Integer>>> adjacency = new HashMap<>();
+        int numVertices = 2000;
+        for (int from = 0; from < numVertices; from += 1) {
+            List<Edge<Integer>> edges = new ArrayList<>();
+            for (int i = random.nextInt(4); i > 0; i -= 1) {
+                edges.add(new Edge<>(from, random.nextInt(numVertices), random.nextDouble() * 10));
+            }
+            adjacency.put(from, edges);
+        }
+        Graph<Integer> graph = v -> adjacency.getOrDefault(v, List.of());
+        List<Integer> sources = new ArrayList<>();
+        List<Integer> targets = new ArrayList<>();
+        for (int i = 0; i < 20; i += 1) {
+            sources.add(random.nextInt(numVertices));
+        }
+        for (int i = 0; i < 40; i += 1) {
+            targets.add(random.nextInt(numVertices));
+        }
+        // Duplicate targets, a source that is also a target, and a vertex outside of the graph
+        targets.add(targets.get(0));
+        targets.add(sources.get(0));
+        targets.add(-1);
+        assertMatchesReference(graph, sources, targets);
+        assertMatchesReference(new IndexedGraph<>(graph, sources), sources, targets);
+    }
+
+    @Test
+    public void gridWithTies() {
+        int size = 30;
+        Graph<Integer> graph = v -> {
+            List<Edge<Integer>> edges = new ArrayList<>();
+            int x = v % size;
+            int y = v / size;
+            if (x + 1 < size) {
+                edges.add(new Edge<>(v, v + 1, 1.0));
+            }
+            if (x > 0) {
+                edges.add(new Edge<>(v, v - 1, 1.0));
+            }
+            if (y + 1 < size) {
+                edges.add(new Edge<>(v, v + size, 1.0));
+            }
+            if (y > 0) {
+                edges.add(new Edge<>(v, v - size, 2.0));
+            }
+            return edges;
+        };
+        Random random = new Random(373);
+        List<Integer> sources = new ArrayList<>();
+        List<Integer> targets = new ArrayList<>();
+        for (int i = 0; i < 10; i += 1) {
+            sources.add(random.nextInt(size * size));
+            targets.add(random.nextInt(size * size));
+        }
+        assertMatchesReference(graph, sources, targets);
+    }
+
+    /**
+     * Asserts that the distance matrix matches the distances computed by a reference Dijkstra's algorithm.
+     *
+     * @param graph   the input graph.
+     * @param sources the source vertices.
+     * @param targets the target vertices.
+     */
+    private void assertMatchesReference(Graph<Integer> graph, List<Integer> sources, List<Integer> targets) {
+        DistanceMatrix<Integer> matrix = createDistanceMatrix(graph, sources, targets);
+        assertEquals(sources.size(), matrix.numSources());
+        assertEquals(targets.size(), matrix.numTargets());
+        double[][] array = matrix.toArray();
+        for (int i = 0; i < sources.size(); i += 1) {
+            Map<Integer, Double> expected = referenceDistances(graph, sources.get(i));
+            for (int j = 0; j < targets.size(); j += 1) {
+                double dist = expected.getOrDefault(targets.get(j), Double.POSITIVE_INFINITY);
+                assertEquals(dist, matrix.distance(i, j), 1e-9, "from " + sources.get(i) + " to " + targets.get(j));
+                assertEquals(matrix.distance(i, j), array[i][j]);
+            }
+        }
+    }
+
+    /**
+     * Returns the distance to every vertex reachable from the source.
+     *
+     * @param graph  the input graph.
+     * @param source the source vertex.
+     * @return the distance to every vertex reachable from the source.
+     */
+    private static Map<Integer, Double> referenceDistances(Graph<Integer> graph, int source) {
+        Map<Integer, Double> distTo = new HashMap<>();
+        PriorityQueue<Map.Entry<Integer, Double>> queue = new PriorityQueue<>(Map.Entry.comparingByValue());
+        queue.add(Map.entry(source, 0.0));
+        while (!queue.isEmpty()) {
+            Map.Entry<Integer, Double> entry = queue.remove();
+            if (distTo.putIfAbsent(entry.getKey(), entry.getValue()) == null) {
+                for (Edge<Integer> e : graph.neighbors(entry.getKey())) {
+                    queue.add(Map.entry(e.to, entry.getValue() + e.weight));
+                }
+            }
+        }
+        return distTo;
+    }
+}
@@ -0,0 +1,15 @@
+package graphs.shortestpaths;
+
+import graphs.Graph;
+
+/**
+ * Tests for the {@link ParallelToposortDAGSolver} class.
+ *
+ * @see ParallelToposortDAGSolver
+ */
+public class ParallelToposortDAGSolverTests extends DAGSolverTests {
+    @Override
+    public <V> ShortestPathSolver<V> createSolver(Graph<V> graph, V start) {
+        return new ParallelToposortDAGSolver<>(graph, start, 2);
+    }
+}
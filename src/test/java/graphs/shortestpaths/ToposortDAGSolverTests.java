@@ -0,0 +1,15 @@
+package graphs.shortestpaths;
+
+import graphs.Graph;
+
+/**
+ * Tests for the {@link ToposortDAGSolver} class.
+ *
+ * @see ToposortDAGSolver
+ */
+public class ToposortDAGSolverTests extends DAGSolverTests {
+    @Override
+    public <V> ShortestPathSolver<V> createSolver(Graph<V> graph, V start) {
+        return new ToposortDAGSolver<>(graph, start);
+    }
+}
@@ -1,5 +1,7 @@
 package minpq;
 
+import java.util.Map;
+
 /**
  * Tests for the {@link DoubleMapMinPQ} class.
  *
@@ -10,4 +12,9 @@ public class DoubleMapMinPQTests extends MinPQTests {
     public <E> MinPQ<E> createMinPQ() {
         return new DoubleMapMinPQ<>();
     }
+
+    @Override
+    public <E> MinPQ<E> createMinPQ(Map<E, Double> elementsAndPriorities) {
+        return new DoubleMapMinPQ<>(elementsAndPriorities);
+    }
 }
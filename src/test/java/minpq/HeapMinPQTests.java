@@ -1,5 +1,7 @@
 package minpq;
 
+import java.util.Map;
+
 /**
  * Tests for the {@link HeapMinPQ} class.
  *
@@ -10,4 +12,9 @@ public class HeapMinPQTests extends MinPQTests {
     public <E> MinPQ<E> createMinPQ() {
         return new HeapMinPQ<>();
     }
+
+    @Override
+    public <E> MinPQ<E> createMinPQ(Map<E, Double> elementsAndPriorities) {
+        return new HeapMinPQ<>(elementsAndPriorities);
+    }
 }
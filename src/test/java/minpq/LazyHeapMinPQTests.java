@@ -0,0 +1,20 @@
+package minpq;
+
+import java.util.Map;
+
+/**
+ * Tests for the {@link LazyHeapMinPQ} class.
+ *
+ * @see LazyHeapMinPQ
+ */
+public class LazyHeapMinPQTests extends MinPQTests {
+    @Override
+    public <E> MinPQ<E> createMinPQ() {
+        return new LazyHeapMinPQ<>();
+    }
+
+    @Override
+    public <E> MinPQ<E> createMinPQ(Map<E, Double> elementsAndPriorities) {
+        return new LazyHeapMinPQ<>(elementsAndPriorities);
+    }
+}
@@ -1,5 +1,7 @@
 package minpq;
 
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
 
@@ -24,6 +26,38 @@ public abstract class MinPQTests {
      */
     public abstract <E> MinPQ<E> createMinPQ();
 
+    /**
+     * Returns a {@link MinPQ} containing the given elements and priorities. By default, each element is added to an
+     * empty {@link MinPQ}, so implementations with a constructor that takes a map should override this method.
+     *
+     * @param elementsAndPriorities each element and its priority.
+     * @return a {@link MinPQ} containing the given elements and priorities.
+     */
+    public <E> MinPQ<E> createMinPQ(Map<E, Double> elementsAndPriorities) {
+        MinPQ<E> result = createMinPQ();
+        for (Map.Entry<E, Double> entry : elementsAndPriorities.entrySet()) {
+            result.add(entry.getKey(), entry.getValue());
+        }
+        return result;
+    }
+
+    @Test
+    public void constructFromMap() {
+        Random random = new Random(373);
+        Map<Integer, Double> elementsAndPriorities = new HashMap<>();
+        for (int i = 0; i < 1000; i += 1) {
+            elementsAndPriorities.put(i, (double) random.nextInt(1000));
+        }
+        MinPQ<Integer> reference = new DoubleMapMinPQ<>(elementsAndPriorities);
+        MinPQ<Integer> testing = createMinPQ(elementsAndPriorities);
+        assertEquals(reference.size(), testing.size());
+        while (!reference.isEmpty()) {
+            assertEquals(elementsAndPriorities.get(reference.removeMin()),
+                    elementsAndPriorities.get(testing.removeMin()));
+        }
+        assertEquals(0, testing.size());
+    }
+
     @Test
     public void wcagIndexAsPriority() throws FileNotFoundException {
         File inputFile = new File("data/wcag.tsv");
@@ -157,6 +191,31 @@ public abstract class MinPQTests {
         assertEquals(referenceGroups, testingGroups, "The groups of tags with the same count should match.");
     }
 
+    @Test
+    public void peekMinDoesNotRemove() {
+        List<Integer> priorities = new ArrayList<>();
+        for (int i = 0; i < 1000; i += 1) {
+            priorities.add(i);
+        }
+        Collections.shuffle(priorities, new Random(373));
+
+        MinPQ<String> testing = createMinPQ();
+        for (int priority : priorities) {
+            testing.add("element" + priority, priority);
+        }
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 10; i += 1) {
+            expected.add("element" + i);
+        }
+
+        assertEquals(expected, testing.peekMin(10));
+        assertEquals(1000, testing.size());
+        assertEquals(1000, testing.peekMin(2000).size());
+        assertEquals(expected, testing.removeMin(10));
+        assertEquals(990, testing.size());
+        assertEquals("element10", testing.peekMin());
+    }
+
     // Helper method to group tags by their counts
     private Map<Integer, Set<String>> groupTagsByCount(List<String> tags, Map<String, Integer> counts) {
         Map<Integer, Set<String>> groups = new HashMap<>();
@@ -166,4 +225,50 @@ public abstract class MinPQTests {
         }
         return groups;
     }
+
+    @Nested
+    @Disabled
+    class RuntimeExperiments {
+        /**
+         * Maximum number of elements. Making this smaller means experiments run faster.
+         */
+        private static final int MAX_SIZE = 100000;
+        /**
+         * Step size increment. Making this smaller means experiments run slower.
+         */
+        private static final int STEP = 10000;
+        /**
+         * Number of priority decreases per element, as in Dijkstra's algorithm on dense graphs.
+         */
+        private static final int DECREASES_PER_ELEMENT = 8;
+
+        @Test
+        void decreaseKeyHeavy() {
+            Random random = new Random(373);
+            for (int size = STEP; size <= MAX_SIZE; size += STEP) {
+                System.out.print(size);
+                System.out.print(',');
+
+                long start = System.nanoTime();
+                MinPQ<Integer> pq = createMinPQ();
+                double[] priorities = new double[size];
+                for (int i = 0; i < size; i += 1) {
+                    priorities[i] = size;
+                    pq.add(i, priorities[i]);
+                }
+                for (int i = 0; i < DECREASES_PER_ELEMENT * size; i += 1) {
+                    int element = random.nextInt(size);
+                    priorities[element] -= random.nextDouble();
+                    pq.changePriority(element, priorities[element]);
+                }
+                while (!pq.isEmpty()) {
+                    pq.removeMin();
+                }
+                long time = System.nanoTime() - start;
+
+                System.out.print(time);
+                System.out.println();
+            }
+        }
+    }
 }
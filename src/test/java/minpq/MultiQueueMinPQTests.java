@@ -0,0 +1,174 @@
+package minpq;
+
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link MultiQueueMinPQ} class. A single heap orders removals exactly, so it is checked against the
+ * shared {@link MinPQTests}, while multiple heaps are stress-tested for lost or duplicated elements.
+ *
+ * @see MultiQueueMinPQ
+ */
+public class MultiQueueMinPQTests extends MinPQTests {
+    /**
+     * Number of concurrent threads for the stress tests.
+     */
+    private static final int NUM_THREADS = 8;
+    /**
+     * Number of elements added by each thread in the stress tests.
+     */
+    private static final int ELEMENTS_PER_THREAD = 20000;
+
+    @Override
+    public <E> MinPQ<E> createMinPQ() {
+        return new MultiQueueMinPQ<>(1);
+    }
+
+    @Test
+    public void concurrentAddAndPoll() throws Exception {
+        ConcurrentMinPQ<Integer> pq = new MultiQueueMinPQ<>(2 * NUM_THREADS);
+        Set<Integer> removed = ConcurrentHashMap.newKeySet();
+        ExecutorService pool = Executors.newFixedThreadPool(NUM_THREADS);
+        try {
+            List<Future<?>> results = new ArrayList<>();
+            for (int t = 0; t < NUM_THREADS; t += 1) {
+                int offset = t * ELEMENTS_PER_THREAD;
+                results.add(pool.submit(() -> {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    for (int i = 0; i < ELEMENTS_PER_THREAD; i += 1) {
+                        pq.add(offset + i, random.nextInt(1000));
+                        if (i % 2 == 0) {
+                            // Other threads may have emptied the queue since the last add
+                            Integer element = pq.poll();
+                            if (element != null) {
+                                assertTrue(removed.add(element), "Removed twice: " + element);
+                            }
+                        }
+                    }
+                    Integer element;
+                    while ((element = pq.poll()) != null) {
+                        assertTrue(removed.add(element), "Removed twice: " + element);
+                    }
+                }));
+            }
+            for (Future<?> result : results) {
+                result.get();
+            }
+        } finally {
+            pool.shutdown();
+        }
+        assertTrue(pq.isEmpty());
+        assertNull(pq.poll());
+        assertEquals(NUM_THREADS * ELEMENTS_PER_THREAD, removed.size());
+    }
+
+    @Test
+    public void concurrentChangePriorityThenPoll() throws Exception {
+        ConcurrentMinPQ<Integer> pq = new MultiQueueMinPQ<>(2 * NUM_THREADS);
+        for (int i = 0; i < NUM_THREADS * ELEMENTS_PER_THREAD; i += 1) {
+            pq.add(i, i);
+        }
+        Set<Integer> removed = ConcurrentHashMap.newKeySet();
+        ExecutorService pool = Executors.newFixedThreadPool(NUM_THREADS);
+        try {
+            List<Future<?>> results = new ArrayList<>();
+            for (int t = 0; t < NUM_THREADS; t += 1) {
+                int offset = t * ELEMENTS_PER_THREAD;
+                results.add(pool.submit(() -> {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    for (int i = 0; i < 4 * ELEMENTS_PER_THREAD; i += 1) {
+                        pq.changePriority(offset + random.nextInt(ELEMENTS_PER_THREAD), random.nextInt(1000));
+                    }
+                }));
+            }
+            for (Future<?> result : results) {
+                result.get();
+            }
+            results.clear();
+            assertEquals(NUM_THREADS * ELEMENTS_PER_THREAD, pq.size());
+            for (int t = 0; t < NUM_THREADS; t += 1) {
+                results.add(pool.submit(() -> {
+                    Integer element;
+                    while ((element = pq.poll()) != null) {
+                        assertTrue(removed.add(element), "Removed twice: " + element);
+                    }
+                }));
+            }
+            for (Future<?> result : results) {
+                result.get();
+            }
+        } finally {
+            pool.shutdown();
+        }
+        assertTrue(pq.isEmpty());
+        assertEquals(NUM_THREADS * ELEMENTS_PER_THREAD, removed.size());
+    }
+
+    @Test
+    public void relaxedOrderIsNearlySorted() {
+        ConcurrentMinPQ<Integer> pq = new MultiQueueMinPQ<>(2 * NUM_THREADS);
+        int size = NUM_THREADS * ELEMENTS_PER_THREAD;
+        for (int i = 0; i < size; i += 1) {
+            pq.add(i, size - i);
+        }
+        // Each removal chooses the better of two random heaps, so removed elements stay close to the true minimum
+        long totalRankError = 0;
+        for (int rank = 0; rank < size; rank += 1) {
+            int priority = size - pq.removeMin();
+            totalRankError += Math.abs(priority - (rank + 1));
+        }
+        assertTrue(totalRankError / (double) size < 10 * NUM_THREADS,
+                "Average rank error too large: " + totalRankError / (double) size);
+    }
+
+    @Nested
+    @Disabled
+    class ThroughputExperiments {
+        /**
+         * Number of add and poll operations per thread. Making this smaller means experiments run faster.
+         */
+        private static final int OPERATIONS_PER_THREAD = 1000000;
+
+        @Test
+        void throughputByThreads() throws Exception {
+            int maxThreads = Runtime.getRuntime().availableProcessors();
+            for (int threads = 1; threads <= maxThreads; threads *= 2) {
+                System.out.print(threads);
+                System.out.print(',');
+
+                ConcurrentMinPQ<Integer> pq = new MultiQueueMinPQ<>(2 * threads);
+                ExecutorService pool = Executors.newFixedThreadPool(threads);
+                List<Callable<Void>> workers = new ArrayList<>();
+                for (int t = 0; t < threads; t += 1) {
+                    int offset = t * OPERATIONS_PER_THREAD;
+                    workers.add(() -> {
+                        ThreadLocalRandom random = ThreadLocalRandom.current();
+                        for (int i = 0; i < OPERATIONS_PER_THREAD; i += 1) {
+                            pq.add(offset + i, random.nextDouble());
+                            pq.poll();
+                        }
+                        return null;
+                    });
+                }
+                long start = System.nanoTime();
+                for (Future<Void> result : pool.invokeAll(workers)) {
+                    result.get();
+                }
+                long time = System.nanoTime() - start;
+                pool.shutdown();
+
+                // Output the number of add-poll pairs per second across all threads
+                System.out.printf("%.0f", threads * OPERATIONS_PER_THREAD / (time / 1e9));
+                System.out.println();
+            }
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package minpq;
 
+import java.util.Map;
+
 /**
  * Tests for the {@link OptimizedHeapMinPQ} class.
  *
@@ -10,5 +12,9 @@ public class OptimizedHeapMinPQTests extends MinPQTests {
     public <E> MinPQ<E> createMinPQ() {
         return new OptimizedHeapMinPQ<>();
     }
-}
 
+    @Override
+    public <E> MinPQ<E> createMinPQ(Map<E, Double> elementsAndPriorities) {
+        return new OptimizedHeapMinPQ<>(elementsAndPriorities);
+    }
+}
@@ -0,0 +1,20 @@
+package minpq;
+
+import java.util.Map;
+
+/**
+ * Tests for the {@link PairingHeapMinPQ} class.
+ *
+ * @see PairingHeapMinPQ
+ */
+public class PairingHeapMinPQTests extends MinPQTests {
+    @Override
+    public <E> MinPQ<E> createMinPQ() {
+        return new PairingHeapMinPQ<>();
+    }
+
+    @Override
+    public <E> MinPQ<E> createMinPQ(Map<E, Double> elementsAndPriorities) {
+        return new PairingHeapMinPQ<>(elementsAndPriorities);
+    }
+}
@@ -1,7 +1,14 @@
 package seamfinding;
 
+import graphs.shortestpaths.DeltaSteppingSolver;
 import graphs.shortestpaths.DijkstraSolver;
+import graphs.shortestpaths.LazyDijkstraSolver;
+import graphs.shortestpaths.ParallelBellmanFordSolver;
+import graphs.shortestpaths.ParallelDijkstraSolver;
+import graphs.shortestpaths.ParallelToposortDAGSolver;
 import graphs.shortestpaths.ToposortDAGSolver;
+import minpq.DoubleMapMinPQ;
+import minpq.PairingHeapMinPQ;
 import org.junit.jupiter.api.Nested;
 
 /**
@@ -22,6 +29,76 @@ public class AdjacencyListSeamFinderTests {
         }
     }
 
+    /**
+     * Tests using the {@link DijkstraSolver} implementation with a {@link DoubleMapMinPQ} perimeter.
+     */
+    @Nested
+    public class UsingDijkstraSolverWithDoubleMapMinPQ extends SeamFinderTests {
+        @Override
+        public SeamFinder createSeamFinder() {
+            return new AdjacencyListSeamFinder(
+                    (graph, start) -> new DijkstraSolver<>(graph, start, DoubleMapMinPQ::new)
+            );
+        }
+    }
+
+    /**
+     * Tests using the {@link DijkstraSolver} implementation with a {@link PairingHeapMinPQ} perimeter.
+     */
+    @Nested
+    public class UsingDijkstraSolverWithPairingHeapMinPQ extends SeamFinderTests {
+        @Override
+        public SeamFinder createSeamFinder() {
+            return new AdjacencyListSeamFinder(
+                    (graph, start) -> new DijkstraSolver<>(graph, start, PairingHeapMinPQ::new)
+            );
+        }
+    }
+
+    /**
+     * Tests using the {@link LazyDijkstraSolver} implementation.
+     */
+    @Nested
+    public class UsingLazyDijkstraSolver extends SeamFinderTests {
+        @Override
+        public SeamFinder createSeamFinder() {
+            return new AdjacencyListSeamFinder(LazyDijkstraSolver::new);
+        }
+    }
+
+    /**
+     * Tests using the {@link ParallelDijkstraSolver} implementation.
+     */
+    @Nested
+    public class UsingParallelDijkstraSolver extends SeamFinderTests {
+        @Override
+        public SeamFinder createSeamFinder() {
+            return new AdjacencyListSeamFinder(ParallelDijkstraSolver::new);
+        }
+    }
+
+    /**
+     * Tests using the {@link DeltaSteppingSolver} implementation.
+     */
+    @Nested
+    public class UsingDeltaSteppingSolver extends SeamFinderTests {
+        @Override
+        public SeamFinder createSeamFinder() {
+            return new AdjacencyListSeamFinder(DeltaSteppingSolver::new);
+        }
+    }
+
+    /**
+     * Tests using the {@link ParallelBellmanFordSolver} implementation.
+     */
+    @Nested
+    public class UsingParallelBellmanFordSolver extends SeamFinderTests {
+        @Override
+        public SeamFinder createSeamFinder() {
+            return new AdjacencyListSeamFinder(ParallelBellmanFordSolver::new);
+        }
+    }
+
     /**
      * Tests using the {@link ToposortDAGSolver} implementation.
      */
@@ -32,4 +109,15 @@ public class AdjacencyListSeamFinderTests {
             return new AdjacencyListSeamFinder(ToposortDAGSolver::new);
         }
     }
+
+    /**
+     * Tests using the {@link ParallelToposortDAGSolver} implementation.
+     */
+    @Nested
+    public class UsingParallelToposortDAGSolver extends SeamFinderTests {
+        @Override
+        public SeamFinder createSeamFinder() {
+            return new AdjacencyListSeamFinder(ParallelToposortDAGSolver::new);
+        }
+    }
 }
@@ -0,0 +1,178 @@
+package seamfinding;
+
+import org.junit.jupiter.api.Test;
+
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link ArrayPicture} class.
+ *
+ * @see ArrayPicture
+ */
+public class ArrayPictureTests {
+    /**
+     * The image file to compare against {@link Picture}.
+     */
+    private static final File FILE = new File("data/seamcarving/HJoceanSmall.png");
+
+    @Test
+    void matchesPicture() throws IOException {
+        Picture expected = new Picture(FILE);
+        ArrayPicture actual = new ArrayPicture(FILE);
+        assertEquals(expected.width(), actual.width());
+        assertEquals(expected.height(), actual.height());
+        for (int y = 0; y < expected.height(); y += 1) {
+            for (int x = 0; x < expected.width(); x += 1) {
+                assertEquals(expected.get(x, y), actual.get(x, y));
+                assertEquals(expected.get(x, y), actual.transposed().get(y, x));
+            }
+        }
+        ArrayPicture copy = new ArrayPicture(expected.transposed());
+        assertEquals(expected.height(), copy.width());
+        assertEquals(expected.get(3, 5), copy.get(5, 3));
+    }
+
+    @Test
+    void setUpdatesTransposed() {
+        ArrayPicture picture = new ArrayPicture(4, 3);
+        assertEquals(new Picture(4, 3).get(1, 1), picture.get(1, 1));
+        picture.set(1, 2, 0x123456);
+        ArrayPicture transposed = picture.transposed();
+        assertSame(transposed, picture.transposed());
+        assertSame(picture, transposed.transposed());
+        assertEquals(3, transposed.width());
+        assertEquals(4, transposed.height());
+        assertEquals(picture.get(1, 2), transposed.get(2, 1));
+
+        // Writes through either view are visible in the other
+        picture.set(3, 0, 0xABCDEF);
+        assertEquals(picture.get(3, 0), transposed.get(0, 3));
+        transposed.set(2, 3, 0x654321);
+        assertEquals(transposed.get(2, 3), picture.get(3, 2));
+    }
+
+    @Test
+    void outOfBoundsThrows() {
+        ArrayPicture picture = new ArrayPicture(4, 3);
+        assertThrows(IndexOutOfBoundsException.class, () -> picture.get(4, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> picture.get(0, 3));
+        assertThrows(IndexOutOfBoundsException.class, () -> picture.set(-1, 0, 0));
+        assertThrows(IllegalArgumentException.class, () -> new ArrayPicture(0, 3));
+    }
+
+    @Test
+    void savesSamePixels() throws IOException {
+        ArrayPicture picture = new ArrayPicture(FILE);
+        picture.set(0, 0, 0x123456);
+        BufferedImage image = picture.toBufferedImage();
+        assertEquals(picture.get(0, 0), image.getRGB(0, 0));
+        assertEquals(picture.get(7, 9), image.getRGB(7, 9));
+
+        File file = Files.createTempFile("picture", ".png").toFile();
+        try {
+            picture.save(file);
+            ArrayPicture saved = new ArrayPicture(file);
+            for (int y = 0; y < picture.height(); y += 1) {
+                for (int x = 0; x < picture.width(); x += 1) {
+                    assertEquals(picture.get(x, y), saved.get(x, y));
+                }
+            }
+        } finally {
+            Files.delete(file.toPath());
+        }
+    }
+
+    @Test
+    void removeSeamsInPlace() {
+        Random random = new Random(373);
+        ArrayPicture picture = Pictures.random(random, 30, 20);
+        int[] pixels = picture.pixels();
+        Picture expected = new ArrayPicture(picture);
+        for (int i = 0; picture.width() > 1 && picture.height() > 1; i += 1) {
+            if (i == 5) {
+                // Later removals also shift the transposed view
+                picture.transposed();
+            }
+            if (random.nextBoolean()) {
+                List<Integer> seam = randomSeam(random, picture.width(), picture.height());
+                picture.removeVertical(seam);
+                expected = removeVertical(expected, seam);
+            } else {
+                List<Integer> seam = randomSeam(random, picture.height(), picture.width());
+                picture.removeHorizontal(seam);
+                expected = removeVertical(expected.transposed(), seam).transposed();
+            }
+            assertEquals(expected.width(), picture.width());
+            assertEquals(expected.height(), picture.height());
+            for (int y = 0; y < expected.height(); y += 1) {
+                for (int x = 0; x < expected.width(); x += 1) {
+                    assertEquals(expected.get(x, y), picture.get(x, y));
+                    assertEquals(expected.get(x, y), picture.transposed().get(y, x));
+                }
+            }
+            assertEquals(expected.get(0, 0), picture.toBufferedImage().getRGB(0, 0));
+        }
+        assertSame(pixels, picture.pixels());
+        if (picture.width() == 1) {
+            List<Integer> seam = Collections.nCopies(picture.height(), 0);
+            assertThrows(IllegalArgumentException.class, () -> picture.removeVertical(seam));
+        } else {
+            List<Integer> seam = Collections.nCopies(picture.width(), 0);
+            assertThrows(IllegalArgumentException.class, () -> picture.removeHorizontal(seam));
+        }
+    }
+
+    @Test
+    void invalidSeamThrows() {
+        ArrayPicture picture = new ArrayPicture(4, 3);
+        assertThrows(IllegalArgumentException.class, () -> picture.removeVertical(List.of(0, 0)));
+        assertThrows(IllegalArgumentException.class, () -> picture.removeVertical(List.of(0, 4, 0)));
+        assertThrows(IllegalArgumentException.class, () -> picture.removeHorizontal(List.of(0, 0, -1, 0)));
+        assertEquals(4, picture.width());
+        assertEquals(3, picture.height());
+    }
+
+    /**
+     * Returns a new picture without the vertical seam.
+     *
+     * @param picture the input picture.
+     * @param seam    the horizontal pixel index to remove from each row.
+     * @return a new picture without the vertical seam.
+     */
+    private static Picture removeVertical(Picture picture, List<Integer> seam) {
+        ArrayPicture result = new ArrayPicture(picture.width() - 1, picture.height());
+        for (int y = 0; y < picture.height(); y += 1) {
+            for (int x = 0; x < result.width(); x += 1) {
+                result.set(x, y, picture.get(x < seam.get(y) ? x : x + 1, y));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns a random valid vertical seam.
+     *
+     * @param random the source of randomness.
+     * @param width  the width of the picture.
+     * @param height the height of the picture.
+     * @return a random valid vertical seam.
+     */
+    private static List<Integer> randomSeam(Random random, int width, int height) {
+        List<Integer> result = new ArrayList<>(height);
+        int x = random.nextInt(width);
+        for (int y = 0; y < height; y += 1) {
+            x = Math.max(0, Math.min(width - 1, x + random.nextInt(3) - 1));
+            result.add(x);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,119 @@
+package seamfinding;
+
+import org.junit.jupiter.api.Test;
+import seamfinding.energy.DualGradientEnergyFunction;
+import seamfinding.energy.EnergyFunction;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link CumulativeEnergyMap} class.
+ *
+ * @see CumulativeEnergyMap
+ */
+public class CumulativeEnergyMapTests {
+    /**
+     * Error tolerance for the minimum-cost seam.
+     */
+    private static final double EPSILON = 1e-5;
+    /**
+     * The {@link EnergyFunction} implementation.
+     */
+    private static final EnergyFunction f = new DualGradientEnergyFunction();
+    private static final long SEED = 373;
+
+    @Test
+    void exactRemovalMatchesRebuild() {
+        ArrayPicture picture = Pictures.random(new Random(SEED), 40, 30);
+        EnergyMap energies = new EnergyMap(picture, f);
+        CumulativeEnergyMap costs = new CumulativeEnergyMap(picture, energies);
+        while (picture.height() > 3) {
+            List<Integer> seam = costs.findHorizontal();
+            assertEquals(minimumEnergy(picture), energy(picture, seam), EPSILON);
+            picture.removeHorizontal(seam);
+            energies.removeHorizontal(picture, seam);
+            costs.removeHorizontal(seam, true);
+            checkCosts(costs, new CumulativeEnergyMap(picture, f), picture);
+        }
+    }
+
+    @Test
+    void exactRemovalFromTransposedView() {
+        ArrayPicture picture = Pictures.random(new Random(SEED), 30, 40);
+        EnergyMap energies = new EnergyMap(picture, f);
+        ArrayPicture transposed = picture.transposed();
+        CumulativeEnergyMap costs = new CumulativeEnergyMap(transposed, energies);
+        for (int i = 0; i < 20; i += 1) {
+            List<Integer> seam = costs.findHorizontal();
+            picture.removeVertical(seam);
+            energies.removeVertical(picture, seam);
+            costs.removeHorizontal(seam, true);
+            checkCosts(costs, new CumulativeEnergyMap(transposed, f), transposed);
+        }
+    }
+
+    @Test
+    void approximateRemovalFindsValidSeams() {
+        ArrayPicture picture = Pictures.random(new Random(SEED), 40, 30);
+        EnergyMap energies = new EnergyMap(picture, f);
+        CumulativeEnergyMap costs = new CumulativeEnergyMap(picture, energies);
+        while (picture.height() > 3) {
+            List<Integer> seam = costs.findHorizontal();
+            assertEquals(picture.width(), seam.size());
+            for (int x = 0; x < seam.size(); x += 1) {
+                assertTrue(seam.get(x) >= 0 && seam.get(x) < picture.height());
+                if (x > 0) {
+                    assertTrue(Math.abs(seam.get(x) - seam.get(x - 1)) <= 1);
+                }
+            }
+            assertTrue(energy(picture, seam) >= minimumEnergy(picture) - EPSILON);
+            picture.removeHorizontal(seam);
+            energies.removeHorizontal(picture, seam);
+            costs.removeHorizontal(seam, false);
+        }
+        assertThrows(IllegalArgumentException.class, () -> costs.removeHorizontal(List.of(0), true));
+    }
+
+    /**
+     * Checks that the updated costs are identical to the costs of a new table.
+     *
+     * @param actual   the updated {@link CumulativeEnergyMap}.
+     * @param expected the new {@link CumulativeEnergyMap}.
+     * @param picture  the picture of both tables.
+     */
+    private static void checkCosts(CumulativeEnergyMap actual, CumulativeEnergyMap expected, Picture picture) {
+        for (int x = 0; x < picture.width(); x += 1) {
+            for (int y = 0; y < picture.height(); y += 1) {
+                assertEquals(expected.get(x, y), actual.get(x, y), "(" + x + ", " + y + ")");
+            }
+        }
+    }
+
+    /**
+     * Returns the energy of a minimum-cost horizontal seam found by the {@link DynamicProgrammingSeamFinder}.
+     *
+     * @param picture the input picture.
+     * @return the energy of a minimum-cost horizontal seam.
+     */
+    private static double minimumEnergy(Picture picture) {
+        return energy(picture, new DynamicProgrammingSeamFinder().findHorizontal(picture, f));
+    }
+
+    /**
+     * Returns the energy of the horizontal seam.
+     *
+     * @param picture the input picture.
+     * @param seam    the vertical pixel index in each column.
+     * @return the energy of the horizontal seam.
+     */
+    private static double energy(Picture picture, List<Integer> seam) {
+        double result = 0.0;
+        for (int x = 0; x < picture.width(); x += 1) {
+            result += f.apply(picture, x, seam.get(x));
+        }
+        return result;
+    }
+}
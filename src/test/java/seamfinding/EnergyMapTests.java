@@ -0,0 +1,184 @@
+package seamfinding;
+
+import org.junit.jupiter.api.Test;
+import seamfinding.energy.DualGradientEnergyFunction;
+import seamfinding.energy.EnergyFunction;
+import seamfinding.energy.EntropyEnergyFunction;
+import seamfinding.energy.SaliencyEnergyFunction;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link EnergyMap} class.
+ *
+ * @see EnergyMap
+ */
+public class EnergyMapTests {
+    /**
+     * The {@link EnergyFunction} implementation.
+     */
+    private static final EnergyFunction f = new DualGradientEnergyFunction();
+    private static final long SEED = 373;
+
+    @Test
+    void matchesEnergyFunction() {
+        Picture picture = Pictures.random(new Random(SEED), 9, 7);
+        EnergyMap energies = new EnergyMap(picture, f);
+        assertEquals(picture, energies.picture());
+        checkEnergies(energies, picture, f);
+
+        // Other pictures fall back to the energy function
+        Picture other = Pictures.random(new Random(SEED + 1), 9, 7);
+        assertEquals(f.apply(other, 4, 4), energies.apply(other, 4, 4));
+        assertThrows(IndexOutOfBoundsException.class, () -> energies.apply(picture, 9, 0));
+    }
+
+    @Test
+    void applyAllCopiesEnergies() {
+        Picture picture = Pictures.random(new Random(SEED), 9, 7);
+        EnergyMap energies = new EnergyMap(picture, f);
+        for (Picture view : List.of(picture, picture.transposed(), Pictures.random(new Random(SEED + 1), 9, 7))) {
+            double[] expected = new double[view.width() * view.height()];
+            f.applyAll(view, expected);
+            double[] actual = new double[expected.length];
+            energies.applyAll(view, actual);
+            assertArrayEquals(expected, actual);
+        }
+        assertThrows(IllegalArgumentException.class, () -> energies.applyAll(picture, new double[1]));
+    }
+
+    @Test
+    void otherPicturesAreNotTransposed() {
+        Picture picture = Pictures.random(new Random(SEED), 9, 7);
+        EnergyMap energies = new EnergyMap(picture, f);
+        int[] numTransposed = {0};
+        Picture other = new Picture(9, 7) {
+            @Override
+            public Picture transposed() {
+                numTransposed[0] += 1;
+                return super.transposed();
+            }
+        };
+        energies.apply(other, 4, 4);
+        energies.applyAll(other, new double[9 * 7]);
+        assertEquals(0, numTransposed[0]);
+
+        // Only pictures with the transposed dimensions are checked for being a view of the cached picture
+        Picture swapped = new Picture(7, 9) {
+            @Override
+            public Picture transposed() {
+                numTransposed[0] += 1;
+                return super.transposed();
+            }
+        };
+        assertEquals(f.apply(swapped, 4, 4), energies.apply(swapped, 4, 4));
+        assertEquals(1, numTransposed[0]);
+    }
+
+    @Test
+    void removeSeamsUpdatesEnergies() {
+        for (EnergyFunction function : List.of(f, new EntropyEnergyFunction(), new SaliencyEnergyFunction())) {
+            removeRandomSeams(function);
+        }
+    }
+
+    /**
+     * Checks that the energies stay up to date as random seams are removed, including seams that affect pixels as far
+     * away as the radius of the energy function.
+     *
+     * @param function the {@link EnergyFunction} to cache.
+     */
+    private static void removeRandomSeams(EnergyFunction function) {
+        Random random = new Random(SEED);
+        Picture picture = Pictures.random(random, 40, 30);
+        EnergyMap energies = new EnergyMap(picture, function);
+        assertEquals(function.radius(), energies.radius());
+        while (picture.width() > 3 && picture.height() > 3) {
+            if (random.nextBoolean()) {
+                List<Integer> seam = randomSeam(random, picture.width(), picture.height());
+                picture = removeVertical(picture, seam);
+                energies.removeVertical(picture, seam);
+            } else {
+                List<Integer> seam = randomSeam(random, picture.height(), picture.width());
+                picture = removeVertical(picture.transposed(), seam).transposed();
+                energies.removeHorizontal(picture, seam);
+            }
+            checkEnergies(energies, picture, function);
+        }
+    }
+
+    @Test
+    void removeSeamsAlongEdges() {
+        Random random = new Random(SEED);
+        Picture picture = Pictures.random(random, 12, 10);
+        EnergyMap energies = new EnergyMap(picture, f);
+        for (int i = 0; i < 4; i += 1) {
+            int edge = i % 2 == 0 ? 0 : picture.width() - 1;
+            List<Integer> seam = new ArrayList<>();
+            for (int y = 0; y < picture.height(); y += 1) {
+                seam.add(edge);
+            }
+            picture = removeVertical(picture, seam);
+            energies.removeVertical(picture, seam);
+            checkEnergies(energies, picture, f);
+        }
+        assertThrows(IllegalArgumentException.class, () -> energies.removeVertical(energies.picture(), List.of()));
+    }
+
+    /**
+     * Checks that every energy in the map, in both orientations, matches the energy function on the picture.
+     *
+     * @param energies the {@link EnergyMap} to check.
+     * @param picture  the {@link Picture} cached by the map.
+     * @param f        the {@link EnergyFunction} cached by the map.
+     */
+    private static void checkEnergies(EnergyMap energies, Picture picture, EnergyFunction f) {
+        Picture transposed = picture.transposed();
+        for (int y = 0; y < picture.height(); y += 1) {
+            for (int x = 0; x < picture.width(); x += 1) {
+                double expected = f.apply(picture, x, y);
+                assertEquals(expected, energies.apply(picture, x, y), "(" + x + ", " + y + ")");
+                assertEquals(expected, energies.apply(transposed, y, x), "(" + x + ", " + y + ")");
+            }
+        }
+    }
+
+    /**
+     * Returns a new picture without the vertical seam.
+     *
+     * @param picture the input picture.
+     * @param seam    the horizontal pixel index to remove from each row.
+     * @return a new picture without the vertical seam.
+     */
+    private static Picture removeVertical(Picture picture, List<Integer> seam) {
+        ArrayPicture result = new ArrayPicture(picture.width() - 1, picture.height());
+        for (int y = 0; y < picture.height(); y += 1) {
+            for (int x = 0; x < result.width(); x += 1) {
+                result.set(x, y, picture.get(x < seam.get(y) ? x : x + 1, y));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns a random valid vertical seam.
+     *
+     * @param random the source of randomness.
+     * @param width  the width of the picture.
+     * @param height the height of the picture.
+     * @return a random valid vertical seam.
+     */
+    private static List<Integer> randomSeam(Random random, int width, int height) {
+        List<Integer> result = new ArrayList<>(height);
+        int x = random.nextInt(width);
+        for (int y = 0; y < height; y += 1) {
+            x = Math.max(0, Math.min(width - 1, x + random.nextInt(3) - 1));
+            result.add(x);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,193 @@
+package seamfinding;
+
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import seamfinding.energy.DualGradientEnergyFunction;
+import seamfinding.energy.EnergyFunction;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link ForwardEnergySeamFinder} class.
+ *
+ * @see ForwardEnergySeamFinder
+ */
+public class ForwardEnergySeamFinderTests {
+    /**
+     * Error tolerance for the minimum-cost seam.
+     */
+    private static final double EPSILON = 1e-5;
+    /**
+     * The base directory path for the images.
+     */
+    private static final String BASE_PATH = "data/seamcarving/";
+    /**
+     * The {@link EnergyFunction} implementation.
+     */
+    private static final EnergyFunction f = new DualGradientEnergyFunction();
+    /**
+     * An {@link EnergyFunction} that gives pure forward energy.
+     */
+    private static final EnergyFunction ZERO = (picture, x, y) -> 0.0;
+    private static final long SEED = 373;
+
+    @Test
+    void findsMinimumCostSeam() {
+        Random random = new Random(SEED);
+        SeamFinder seamFinder = new ForwardEnergySeamFinder();
+        for (int i = 0; i < 20; i += 1) {
+            Picture picture = Pictures.random(random, 3 + random.nextInt(5), 3 + random.nextInt(4));
+            for (EnergyFunction energy : List.of(f, ZERO)) {
+                List<Integer> horizontal = seamFinder.findHorizontal(picture, energy);
+                assertEquals(picture.width(), horizontal.size());
+                assertEquals(minimumCost(picture, energy), cost(picture, energy, horizontal), EPSILON);
+
+                Picture transposed = picture.transposed();
+                List<Integer> vertical = seamFinder.findVertical(picture, energy);
+                assertEquals(picture.height(), vertical.size());
+                assertEquals(minimumCost(transposed, energy), cost(transposed, energy, vertical), EPSILON);
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"HJoceanSmall", "chameleon", "diagonals", "3x3"})
+    void parallelMatchesSequential(String basename) throws IOException {
+        Picture picture = new ArrayPicture(new File(BASE_PATH + basename + ".png"));
+        SeamFinder sequential = new ForwardEnergySeamFinder();
+        SeamFinder parallel = new ForwardEnergySeamFinder(4, 2);
+        assertEquals(sequential.findHorizontal(picture, f), parallel.findHorizontal(picture, f));
+        assertEquals(sequential.findVertical(picture, f), parallel.findVertical(picture, f));
+    }
+
+    @Test
+    void invalidParallelismThrows() {
+        assertThrows(IllegalArgumentException.class, () -> new ForwardEnergySeamFinder(0));
+        assertThrows(IllegalArgumentException.class, () -> new ForwardEnergySeamFinder(2, 0));
+    }
+
+    /**
+     * Returns the minimum forward-energy cost of any horizontal seam in the picture by trying every seam.
+     *
+     * @param picture the input picture.
+     * @param energy  the {@link EnergyFunction} for the energy of each pixel.
+     * @return the minimum forward-energy cost of any horizontal seam in the picture.
+     */
+    private static double minimumCost(Picture picture, EnergyFunction energy) {
+        double result = Double.POSITIVE_INFINITY;
+        for (int y = 0; y < picture.height(); y += 1) {
+            List<Integer> seam = new ArrayList<>();
+            seam.add(y);
+            result = Math.min(result, minimumCost(picture, energy, seam));
+        }
+        return result;
+    }
+
+    /**
+     * Returns the minimum forward-energy cost of any horizontal seam in the picture that starts with the given seam.
+     *
+     * @param picture the input picture.
+     * @param energy  the {@link EnergyFunction} for the energy of each pixel.
+     * @param seam    the first pixels of the seam, which is restored before returning.
+     * @return the minimum forward-energy cost of any horizontal seam that starts with the given seam.
+     */
+    private static double minimumCost(Picture picture, EnergyFunction energy, List<Integer> seam) {
+        if (seam.size() == picture.width()) {
+            return cost(picture, energy, seam);
+        }
+        double result = Double.POSITIVE_INFINITY;
+        int last = seam.get(seam.size() - 1);
+        for (int y = Math.max(0, last - 1); y <= Math.min(picture.height() - 1, last + 1); y += 1) {
+            seam.add(y);
+            result = Math.min(result, minimumCost(picture, energy, seam));
+            seam.remove(seam.size() - 1);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the forward-energy cost of the horizontal seam: the energy of each removed pixel plus the difference in
+     * luminance between each pair of pixels that become neighbors when the seam is removed.
+     *
+     * @param picture the input picture.
+     * @param energy  the {@link EnergyFunction} for the energy of each pixel.
+     * @param seam    the vertical pixel index in each column of the seam.
+     * @return the forward-energy cost of the horizontal seam.
+     */
+    private static double cost(Picture picture, EnergyFunction energy, List<Integer> seam) {
+        double result = 0.0;
+        for (int x = 0; x < picture.width(); x += 1) {
+            int y = seam.get(x);
+            int above = luminance(picture, x, Math.max(0, y - 1));
+            int below = luminance(picture, x, Math.min(picture.height() - 1, y + 1));
+            result += energy.apply(picture, x, y) + Math.abs(below - above);
+            if (x > 0 && seam.get(x - 1) == y - 1) {
+                result += Math.abs(luminance(picture, x - 1, y) - above);
+            } else if (x > 0 && seam.get(x - 1) == y + 1) {
+                result += Math.abs(luminance(picture, x - 1, y) - below);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the luminance of pixel (x, y) in the picture.
+     *
+     * @param picture the input picture.
+     * @param x       the x-index into the picture.
+     * @param y       the y-index into the picture.
+     * @return the luminance of pixel (x, y) in the picture.
+     */
+    private static int luminance(Picture picture, int x, int y) {
+        int rgb = picture.get(x, y);
+        return (77 * ((rgb >> 16) & 0xFF) + 150 * ((rgb >> 8) & 0xFF) + 29 * (rgb & 0xFF)) >> 8;
+    }
+
+    @Nested
+    @Disabled
+    class RuntimeExperiments {
+        /**
+         * Number of trials per implementation. Making this smaller means experiments run faster.
+         */
+        private static final int NUM_TRIALS = 10;
+
+        @ParameterizedTest
+        @ValueSource(strings = {"HJoceanSmall", "chameleon", "diagonals"})
+        void compareWithDynamicProgramming(String basename) throws IOException {
+            Picture picture = new ArrayPicture(new File(BASE_PATH + basename + ".png"));
+            EnergyMap energies = new EnergyMap(picture, f);
+            Map<String, SeamFinder> seamFinders = new LinkedHashMap<>();
+            seamFinders.put("DynamicProgramming", new DynamicProgrammingSeamFinder());
+            seamFinders.put("ForwardEnergy", new ForwardEnergySeamFinder());
+            seamFinders.put("ParallelForwardEnergy",
+                    new ForwardEnergySeamFinder(Runtime.getRuntime().availableProcessors()));
+            System.out.println(basename);
+            for (Map.Entry<String, SeamFinder> entry : seamFinders.entrySet()) {
+                SeamFinder seamFinder = entry.getValue();
+                List<Integer> seam = seamFinder.findHorizontal(picture, energies);
+                long totalTime = 0;
+                for (int i = 0; i < NUM_TRIALS; i += 1) {
+                    long start = System.nanoTime();
+                    seamFinder.findHorizontal(picture, energies);
+                    totalTime += System.nanoTime() - start;
+                }
+                // Backward energy is the cost minimized by the dynamic programming finder, while forward energy also
+                // counts the new edges that removing the seam introduces
+                double backward = cost(picture, f, seam) - cost(picture, ZERO, seam);
+                System.out.printf("%s,%.0f,%.1f,%.1f%n", entry.getKey(),
+                        totalTime / (double) NUM_TRIALS, backward, cost(picture, ZERO, seam));
+            }
+        }
+    }
+}
@@ -1,6 +1,11 @@
 package seamfinding;
 
+import graphs.shortestpaths.DeltaSteppingSolver;
 import graphs.shortestpaths.DijkstraSolver;
+import graphs.shortestpaths.LazyDijkstraSolver;
+import graphs.shortestpaths.ParallelBellmanFordSolver;
+import graphs.shortestpaths.ParallelDijkstraSolver;
+import graphs.shortestpaths.ParallelToposortDAGSolver;
 import graphs.shortestpaths.ToposortDAGSolver;
 import org.junit.jupiter.api.Nested;
 
@@ -22,6 +27,50 @@ public class GenerativeSeamFinderTests {
         }
     }
 
+    /**
+     * Tests using the {@link LazyDijkstraSolver} implementation.
+     */
+    @Nested
+    public class UsingLazyDijkstraSolver extends SeamFinderTests {
+        @Override
+        public SeamFinder createSeamFinder() {
+            return new GenerativeSeamFinder(LazyDijkstraSolver::new);
+        }
+    }
+
+    /**
+     * Tests using the {@link ParallelDijkstraSolver} implementation.
+     */
+    @Nested
+    public class UsingParallelDijkstraSolver extends SeamFinderTests {
+        @Override
+        public SeamFinder createSeamFinder() {
+            return new GenerativeSeamFinder(ParallelDijkstraSolver::new);
+        }
+    }
+
+    /**
+     * Tests using the {@link DeltaSteppingSolver} implementation.
+     */
+    @Nested
+    public class UsingDeltaSteppingSolver extends SeamFinderTests {
+        @Override
+        public SeamFinder createSeamFinder() {
+            return new GenerativeSeamFinder(DeltaSteppingSolver::new);
+        }
+    }
+
+    /**
+     * Tests using the {@link ParallelBellmanFordSolver} implementation.
+     */
+    @Nested
+    public class UsingParallelBellmanFordSolver extends SeamFinderTests {
+        @Override
+        public SeamFinder createSeamFinder() {
+            return new GenerativeSeamFinder(ParallelBellmanFordSolver::new);
+        }
+    }
+
     /**
      * Tests using the {@link ToposortDAGSolver} implementation.
      */
@@ -32,4 +81,15 @@ public class GenerativeSeamFinderTests {
             return new GenerativeSeamFinder(ToposortDAGSolver::new);
         }
     }
+
+    /**
+     * Tests using the {@link ParallelToposortDAGSolver} implementation.
+     */
+    @Nested
+    public class UsingParallelToposortDAGSolver extends SeamFinderTests {
+        @Override
+        public SeamFinder createSeamFinder() {
+            return new GenerativeSeamFinder(ParallelToposortDAGSolver::new);
+        }
+    }
 }
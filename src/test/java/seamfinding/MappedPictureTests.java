@@ -0,0 +1,130 @@
+package seamfinding;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link MappedPicture} class.
+ *
+ * @see MappedPicture
+ */
+public class MappedPictureTests {
+    /**
+     * The image file to compare against {@link Picture}.
+     */
+    private static final File FILE = new File("data/seamcarving/HJoceanSmall.png");
+
+    @Test
+    void matchesPicture() throws IOException {
+        Picture expected = new Picture(FILE);
+        Path path = Files.createTempFile("picture", ".raw");
+        try {
+            MappedPicture actual = MappedPicture.create(expected, path);
+            assertEquals((long) expected.width() * expected.height() * Integer.BYTES, Files.size(path));
+            checkPixels(expected, actual);
+            actual.set(3, 5, 0x123456);
+            actual.force();
+
+            // Changes are written through to the file, with rows split across several small segments
+            MappedPicture reopened = new MappedPicture(path, expected.width(), expected.height(),
+                    3 * expected.width() * Integer.BYTES + 1);
+            expected.set(3, 5, 0x123456);
+            checkPixels(expected, reopened);
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    @Test
+    void removeSeamsInPlace() throws IOException {
+        Random random = new Random(373);
+        ArrayPicture expected = Pictures.random(random, 30, 20);
+        Path path = Files.createTempFile("picture", ".raw");
+        Path output = Files.createTempFile("carved", ".raw");
+        try {
+            MappedPicture.writeRaw(expected, path);
+            MappedPicture picture = new MappedPicture(path, expected.width(), expected.height(),
+                    4 * expected.width() * Integer.BYTES);
+            while (picture.width() > 1 && picture.height() > 1) {
+                if (random.nextBoolean()) {
+                    List<Integer> seam = randomSeam(random, picture.width(), picture.height());
+                    picture.removeVertical(seam);
+                    expected.removeVertical(seam);
+                } else {
+                    List<Integer> seam = randomSeam(random, picture.height(), picture.width());
+                    picture.removeHorizontal(seam);
+                    expected.removeHorizontal(seam);
+                }
+                checkPixels(expected, picture);
+            }
+            // Removing seams in place leaves the length of the file unchanged
+            assertEquals(30 * 20 * Integer.BYTES, Files.size(path));
+            MappedPicture.writeRaw(picture, output);
+            assertEquals((long) expected.width() * expected.height() * Integer.BYTES, Files.size(output));
+            checkPixels(expected, new MappedPicture(output, expected.width(), expected.height()));
+        } finally {
+            Files.delete(path);
+            Files.delete(output);
+        }
+    }
+
+    @Test
+    void invalidArgumentsThrow() throws IOException {
+        Path path = Files.createTempFile("picture", ".raw");
+        try {
+            MappedPicture picture = MappedPicture.create(new ArrayPicture(4, 3), path);
+            assertThrows(IndexOutOfBoundsException.class, () -> picture.get(4, 0));
+            assertThrows(IndexOutOfBoundsException.class, () -> picture.get(0, 3));
+            assertThrows(IllegalArgumentException.class, () -> picture.removeVertical(List.of(0, 4, 0)));
+            assertThrows(IllegalArgumentException.class, () -> picture.removeHorizontal(List.of(0, 0)));
+            assertThrows(IllegalArgumentException.class, () -> new MappedPicture(path, 4, 4));
+            assertThrows(IllegalArgumentException.class, () -> new MappedPicture(path, 0, 3));
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    /**
+     * Checks that the picture has the same dimensions and pixels as the expected picture, in both orientations.
+     *
+     * @param expected the expected picture.
+     * @param actual   the picture to check.
+     */
+    private static void checkPixels(Picture expected, Picture actual) {
+        assertEquals(expected.width(), actual.width());
+        assertEquals(expected.height(), actual.height());
+        for (int y = 0; y < expected.height(); y += 1) {
+            for (int x = 0; x < expected.width(); x += 1) {
+                assertEquals(expected.get(x, y), actual.get(x, y));
+                assertEquals(expected.get(x, y), actual.transposed().get(y, x));
+            }
+        }
+    }
+
+    /**
+     * Returns a random valid vertical seam.
+     *
+     * @param random the source of randomness.
+     * @param width  the width of the picture.
+     * @param height the height of the picture.
+     * @return a random valid vertical seam.
+     */
+    private static List<Integer> randomSeam(Random random, int width, int height) {
+        List<Integer> result = new ArrayList<>(height);
+        int x = random.nextInt(width);
+        for (int y = 0; y < height; y += 1) {
+            x = Math.max(0, Math.min(width - 1, x + random.nextInt(3) - 1));
+            result.add(x);
+        }
+        return result;
+    }
+}
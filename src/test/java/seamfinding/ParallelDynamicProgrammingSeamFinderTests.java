@@ -0,0 +1,26 @@
+package seamfinding;
+
+import org.junit.jupiter.api.Nested;
+
+/**
+ * Tests for the {@link ParallelDynamicProgrammingSeamFinder} class.
+ *
+ * @see ParallelDynamicProgrammingSeamFinder
+ */
+public class ParallelDynamicProgrammingSeamFinderTests extends SeamFinderTests {
+    @Override
+    public SeamFinder createSeamFinder() {
+        return new ParallelDynamicProgrammingSeamFinder();
+    }
+
+    /**
+     * Tests using bands of a few rows so that even small pictures are split across threads.
+     */
+    @Nested
+    public class WithSmallBands extends SeamFinderTests {
+        @Override
+        public SeamFinder createSeamFinder() {
+            return new ParallelDynamicProgrammingSeamFinder(4, 2);
+        }
+    }
+}
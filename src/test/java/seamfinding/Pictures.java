@@ -0,0 +1,31 @@
+package seamfinding;
+
+import java.util.Random;
+
+/**
+ * Pictures shared by the seam finding and energy function tests.
+ *
+ * @see ArrayPicture
+ */
+public final class Pictures {
+    private Pictures() {
+    }
+
+    /**
+     * Returns a new picture with the given width and height dimensions filled with random colors.
+     *
+     * @param random the source of randomness.
+     * @param width  the horizontal dimension for the picture.
+     * @param height the vertical dimension for the picture.
+     * @return a new picture with the given width and height dimensions filled with random colors.
+     */
+    public static ArrayPicture random(Random random, int width, int height) {
+        ArrayPicture result = new ArrayPicture(width, height);
+        for (int y = 0; y < height; y += 1) {
+            for (int x = 0; x < width; x += 1) {
+                result.set(x, y, random.nextInt());
+            }
+        }
+        return result;
+    }
+}
@@ -57,8 +57,25 @@ public abstract class SeamFinderTests {
                             "12x10", "10x12", "10x10", "8x3", "7x10", "7x3", "6x5", "5x6", "4x6",
                             "3x8", "3x7", "3x4", "3x3"})
     void precomputedImages(String basename) throws IOException {
-        Picture picture = new Picture(new File(BASE_PATH + basename + ".png"));
+        checkPrecomputed(basename, new Picture(new File(BASE_PATH + basename + ".png")));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"HJoceanSmall", "stripes", "diagonals", "diag_test", "chameleon",
+                            "12x10", "10x12", "10x10", "8x3", "7x10", "7x3", "6x5", "5x6", "4x6",
+                            "3x8", "3x7", "3x4", "3x3"})
+    void precomputedArrayImages(String basename) throws IOException {
+        checkPrecomputed(basename, new ArrayPicture(new File(BASE_PATH + basename + ".png")));
+    }
 
+    /**
+     * Checks that the seams found in the picture have the expected energy for the file name.
+     *
+     * @param basename the base file name of the picture.
+     * @param picture  the {@link Picture} read from the file.
+     * @throws FileNotFoundException if an expected seam cost file is missing.
+     */
+    private void checkPrecomputed(String basename, Picture picture) throws FileNotFoundException {
         double horizontalExpected = precomputedEnergy(basename, "horizontal");
         List<Integer> horizontalSeam = seamFinder.findHorizontal(picture, f);
         checkHorizontal(picture, horizontalSeam);
@@ -0,0 +1,56 @@
+package seamfinding;
+
+import org.junit.jupiter.api.Test;
+import seamfinding.energy.DualGradientEnergyFunction;
+import seamfinding.energy.EnergyFunction;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link StreamingSeamFinder} class.
+ *
+ * @see StreamingSeamFinder
+ */
+public class StreamingSeamFinderTests extends SeamFinderTests {
+    @Override
+    public SeamFinder createSeamFinder() {
+        return new StreamingSeamFinder();
+    }
+
+    @Test
+    void mappedPictureMatchesDynamicProgramming() throws IOException {
+        EnergyFunction f = new DualGradientEnergyFunction();
+        Picture picture = new ArrayPicture(new File("data/seamcarving/chameleon.png"));
+        Path path = Files.createTempFile("picture", ".raw");
+        try {
+            MappedPicture mapped = MappedPicture.create(picture, path);
+            SeamFinder expected = new DynamicProgrammingSeamFinder();
+            SeamFinder actual = createSeamFinder();
+            assertEquals(expected.findVertical(picture, f), actual.findVertical(mapped, f));
+            assertEquals(expected.findHorizontal(picture, f), actual.findHorizontal(mapped, f));
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    @Test
+    void smallSegmentsMatchDynamicProgramming() {
+        EnergyFunction f = new DualGradientEnergyFunction();
+        Picture picture = Pictures.random(new Random(373), 30, 50);
+        SeamFinder expected = new DynamicProgrammingSeamFinder();
+        // Rows of 8 bytes split across segments of 3 rows, then 1 row
+        for (int maxSegmentBytes : new int[]{24, 8}) {
+            SeamFinder actual = new StreamingSeamFinder(maxSegmentBytes);
+            assertEquals(expected.findVertical(picture, f), actual.findVertical(picture, f));
+        }
+        assertThrows(IllegalArgumentException.class, () -> new StreamingSeamFinder(7).findVertical(picture, f));
+        assertThrows(IllegalArgumentException.class, () -> new StreamingSeamFinder(0));
+    }
+}
@@ -0,0 +1,86 @@
+package seamfinding.energy;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import seamfinding.ArrayPicture;
+import seamfinding.Picture;
+import seamfinding.Pictures;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link DualGradientEnergyFunction} class.
+ *
+ * @see DualGradientEnergyFunction
+ */
+public class DualGradientEnergyFunctionTests {
+    /**
+     * The base directory path for the images.
+     */
+    private static final String BASE_PATH = "data/seamcarving/";
+    private static final DualGradientEnergyFunction f = new DualGradientEnergyFunction();
+
+    @ParameterizedTest
+    @ValueSource(strings = {"HJoceanSmall", "stripes", "diagonals", "diag_test", "chameleon",
+                            "12x10", "10x12", "10x10", "8x3", "7x10", "7x3", "6x5", "5x6", "4x6",
+                            "3x8", "3x7", "3x4", "3x3"})
+    void applyAllMatchesApply(String basename) throws IOException {
+        Picture picture = new Picture(new File(BASE_PATH + basename + ".png"));
+        checkApplyAll(picture);
+        checkApplyAll(picture.transposed());
+        ArrayPicture array = new ArrayPicture(picture);
+        checkApplyAll(array);
+        checkApplyAll(array.transposed());
+    }
+
+    @Test
+    void applyAllAfterRemovingSeams() {
+        Random random = new Random(373);
+        ArrayPicture picture = Pictures.random(random, 50, 40);
+        // Removing seams in place leaves the stride wider than the picture
+        for (int i = 0; i < 10; i += 1) {
+            List<Integer> seam = new ArrayList<>();
+            for (int y = 0; y < picture.height(); y += 1) {
+                seam.add(random.nextInt(picture.width()));
+            }
+            picture.removeVertical(seam);
+            checkApplyAll(picture);
+        }
+        assertThrows(IllegalArgumentException.class, () -> f.applyAll(picture, new double[1]));
+    }
+
+    @Test
+    void defaultApplyAllMatchesApply() throws IOException {
+        EnergyFunction wrapped = f::apply;
+        Picture picture = new ArrayPicture(new File(BASE_PATH + "HJoceanSmall.png"));
+        double[] expected = new double[picture.width() * picture.height()];
+        f.applyAll(picture, expected);
+        double[] actual = new double[expected.length];
+        wrapped.applyAll(picture, actual);
+        assertArrayEquals(expected, actual);
+        assertEquals(2, wrapped.radius());
+        assertThrows(IllegalArgumentException.class, () -> wrapped.applyAll(picture, new double[1]));
+    }
+
+    /**
+     * Checks that the bulk energies of the picture are identical to the energy of each pixel.
+     *
+     * @param picture the input picture.
+     */
+    private static void checkApplyAll(Picture picture) {
+        double[] energies = new double[picture.width() * picture.height()];
+        f.applyAll(picture, energies);
+        for (int y = 0; y < picture.height(); y += 1) {
+            for (int x = 0; x < picture.width(); x += 1) {
+                assertEquals(f.apply(picture, x, y), energies[y * picture.width() + x], "(" + x + ", " + y + ")");
+            }
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package seamfinding.energy;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import seamfinding.ArrayPicture;
+import seamfinding.Picture;
+import seamfinding.Pictures;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Abstract class providing test cases for implementations of the {@link EnergyFunction} interface that compute every
+ * pixel at once with separable convolution passes.
+ *
+ * @see EnergyFunction
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public abstract class EnergyFunctionTests {
+    /**
+     * Error tolerance for energies computed in single precision.
+     */
+    static final double EPSILON = 1e-3;
+    /**
+     * The base directory path for the images.
+     */
+    private static final String BASE_PATH = "data/seamcarving/";
+    /**
+     * The {@link EnergyFunction} implementation to test.
+     */
+    EnergyFunction f;
+
+    /**
+     * Returns a new instance of the {@link EnergyFunction} interface.
+     *
+     * @return a new instance of the {@link EnergyFunction} interface.
+     */
+    public abstract EnergyFunction createEnergyFunction();
+
+    @BeforeAll
+    void setup() {
+        f = createEnergyFunction();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"HJoceanSmall", "stripes", "diagonals", "chameleon", "12x10", "8x3", "3x3"})
+    void applyAllMatchesApply(String basename) throws IOException {
+        Picture picture = new Picture(new File(BASE_PATH + basename + ".png"));
+        checkApplyAll(picture);
+        checkApplyAll(picture.transposed());
+        ArrayPicture array = new ArrayPicture(picture);
+        checkApplyAll(array);
+        checkApplyAll(array.transposed());
+    }
+
+    @Test
+    void applyAllAfterRemovingSeams() {
+        Random random = new Random(373);
+        ArrayPicture picture = Pictures.random(random, 30, 20);
+        // Removing seams in place leaves the stride wider than the picture
+        for (int i = 0; i < 5; i += 1) {
+            List<Integer> seam = new ArrayList<>();
+            for (int y = 0; y < picture.height(); y += 1) {
+                seam.add(random.nextInt(picture.width()));
+            }
+            picture.removeVertical(seam);
+            checkApplyAll(picture);
+        }
+        assertThrows(IllegalArgumentException.class, () -> f.applyAll(picture, new double[1]));
+        assertThrows(IndexOutOfBoundsException.class, () -> f.apply(picture, picture.width(), 0));
+    }
+
+    @Test
+    void flatPictureHasNoEnergy() {
+        ArrayPicture picture = new ArrayPicture(12, 9);
+        for (int y = 0; y < picture.height(); y += 1) {
+            for (int x = 0; x < picture.width(); x += 1) {
+                picture.set(x, y, 0x7F3AC5);
+            }
+        }
+        double[] energies = new double[picture.width() * picture.height()];
+        f.applyAll(picture, energies);
+        for (double energy : energies) {
+            assertEquals(0.0, energy, EPSILON);
+        }
+    }
+
+    /**
+     * Checks that the bulk energies of the picture are identical to the energy of each pixel.
+     *
+     * @param picture the input picture.
+     */
+    private void checkApplyAll(Picture picture) {
+        double[] energies = new double[picture.width() * picture.height()];
+        f.applyAll(picture, energies);
+        for (int y = 0; y < picture.height(); y += 1) {
+            for (int x = 0; x < picture.width(); x += 1) {
+                assertEquals(f.apply(picture, x, y), energies[y * picture.width() + x], "(" + x + ", " + y + ")");
+            }
+        }
+    }
+
+    /**
+     * Returns the energies of a picture that is black left of the given column and white from it onwards.
+     *
+     * @param width  the horizontal dimension for the picture.
+     * @param height the vertical dimension for the picture.
+     * @param edge   the first white column.
+     * @return the row-major energies of the picture.
+     */
+    double[] stepEdgeEnergies(int width, int height, int edge) {
+        ArrayPicture picture = new ArrayPicture(width, height);
+        for (int y = 0; y < height; y += 1) {
+            for (int x = edge; x < width; x += 1) {
+                picture.set(x, y, 0xFFFFFF);
+            }
+        }
+        double[] energies = new double[width * height];
+        f.applyAll(picture, energies);
+        return energies;
+    }
+}
@@ -0,0 +1,43 @@
+package seamfinding.energy;
+
+import org.junit.jupiter.api.Test;
+import seamfinding.ArrayPicture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link EntropyEnergyFunction} class.
+ *
+ * @see EntropyEnergyFunction
+ */
+public class EntropyEnergyFunctionTests extends EnergyFunctionTests {
+    @Override
+    public EnergyFunction createEnergyFunction() {
+        return new EntropyEnergyFunction();
+    }
+
+    @Test
+    void checkerboardWindowEntropy() {
+        ArrayPicture picture = new ArrayPicture(9, 9);
+        for (int y = 0; y < picture.height(); y += 1) {
+            for (int x = 0; x < picture.width(); x += 1) {
+                picture.set(x, y, (x + y) % 2 == 0 ? 0xFFFFFF : 0x000000);
+            }
+        }
+        // Each 5-by-5 window away from the edges has 13 pixels of one color and 12 of the other
+        double expected = -(13 / 25.0) * Math.log(13 / 25.0) / Math.log(2) - (12 / 25.0) * Math.log(12 / 25.0)
+                / Math.log(2);
+        assertEquals(expected, f.apply(picture, 4, 4), EPSILON);
+        assertEquals(2, f.radius());
+    }
+
+    @Test
+    void stepEdge() {
+        double[] energies = stepEdgeEnergies(12, 5, 6);
+        // Only windows that cross the edge contain both colors
+        assertEquals(0.0, energies[2 * 12 + 3], EPSILON);
+        assertTrue(energies[2 * 12 + 4] > 0.0);
+        assertTrue(energies[2 * 12 + 7] > 0.0);
+        assertEquals(0.0, energies[2 * 12 + 8], EPSILON);
+    }
+}
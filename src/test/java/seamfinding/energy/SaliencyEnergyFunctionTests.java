@@ -0,0 +1,33 @@
+package seamfinding.energy;
+
+import org.junit.jupiter.api.Test;
+import seamfinding.ArrayPicture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link SaliencyEnergyFunction} class.
+ *
+ * @see SaliencyEnergyFunction
+ */
+public class SaliencyEnergyFunctionTests extends EnergyFunctionTests {
+    @Override
+    public EnergyFunction createEnergyFunction() {
+        return new SaliencyEnergyFunction();
+    }
+
+    @Test
+    void brightPixelStandsOut() {
+        ArrayPicture picture = new ArrayPicture(21, 21);
+        picture.set(10, 10, 0xFFFFFF);
+        double[] energies = new double[picture.width() * picture.height()];
+        f.applyAll(picture, energies);
+        // The center blur keeps a quarter of the pixel while the surround blur spreads it over 9 by 9 pixels
+        double expected = 255 * (0.25 - (70 / 256.0) * (70 / 256.0));
+        assertEquals(expected, energies[10 * 21 + 10], EPSILON);
+        // Pixels beyond the surround are not affected
+        assertEquals(0.0, energies[10 * 21 + 15], EPSILON);
+        assertEquals(0.0, energies[0], EPSILON);
+        assertEquals(4, f.radius());
+    }
+}
@@ -0,0 +1,26 @@
+package seamfinding.energy;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link ScharrEnergyFunction} class.
+ *
+ * @see ScharrEnergyFunction
+ */
+public class ScharrEnergyFunctionTests extends EnergyFunctionTests {
+    @Override
+    public EnergyFunction createEnergyFunction() {
+        return new ScharrEnergyFunction();
+    }
+
+    @Test
+    void stepEdge() {
+        double[] energies = stepEdgeEnergies(8, 5, 4);
+        // Pixels on either side of the edge see the full step across all three smoothed rows
+        assertEquals(16 * 255, energies[2 * 8 + 3], EPSILON);
+        assertEquals(16 * 255, energies[2 * 8 + 4], EPSILON);
+        assertEquals(0.0, energies[2 * 8 + 1], EPSILON);
+    }
+}
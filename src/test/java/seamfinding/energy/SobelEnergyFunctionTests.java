@@ -0,0 +1,27 @@
+package seamfinding.energy;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link SobelEnergyFunction} class.
+ *
+ * @see SobelEnergyFunction
+ */
+public class SobelEnergyFunctionTests extends EnergyFunctionTests {
+    @Override
+    public EnergyFunction createEnergyFunction() {
+        return new SobelEnergyFunction();
+    }
+
+    @Test
+    void stepEdge() {
+        double[] energies = stepEdgeEnergies(8, 5, 4);
+        // Pixels on either side of the edge see the full step across all three smoothed rows
+        assertEquals(4 * 255, energies[2 * 8 + 3], EPSILON);
+        assertEquals(4 * 255, energies[2 * 8 + 4], EPSILON);
+        assertEquals(0.0, energies[2 * 8 + 1], EPSILON);
+        assertEquals(0.0, energies[2 * 8 + 6], EPSILON);
+    }
+}